@@ -0,0 +1,37 @@
+package net.minestom.server.event;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.Z_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Outcome(id = "true", expect = ACCEPTABLE)
+@Outcome(id = "false", expect = FORBIDDEN, desc = "Stale handle snapshot")
+@State
+public class EventNodeHandleTest {
+    private final EventNode<Event> node = EventNode.all("main");
+    private final EventNode<Event> child = EventNode.all("child");
+    private final ListenerHandle<TestEvent> handle = node.getHandle(TestEvent.class);
+
+    @Actor
+    public void actor1() {
+        child.addListener(TestEvent.class, event -> {
+        });
+        node.addChild(child);
+    }
+
+    @Actor
+    public void actor2() {
+        handle.hasListener();
+    }
+
+    @Arbiter
+    public void arbiter(Z_Result r) {
+        r.r1 = handle.hasListener();
+    }
+
+    static final class TestEvent implements Event {
+    }
+}
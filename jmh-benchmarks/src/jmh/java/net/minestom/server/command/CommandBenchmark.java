@@ -22,11 +22,15 @@ import static net.minestom.server.command.builder.arguments.ArgumentType.*;
 @Warmup(time = 2, iterations = 3)
 @Measurement(time = 6)
 public class CommandBenchmark {
+    // "graph" parses a prebuilt graph, "manager" goes through the cached graph of CommandManager
+    @Param({"graph", "manager"})
+    public String source;
+
     Function<String, Object> parser;
 
     @Setup
     public void setup() {
-        var graph = Graph.merge(Set.of(
+        final Set<Command> commands = Set.of(
                 new Command("tp", "teleport") {{
                     addSyntax((sender, context) -> {}, Potion("pos"));
                     addSyntax((sender, context) -> {}, Entity("entity"), Potion("pos"));
@@ -54,9 +58,16 @@ public class CommandBenchmark {
                     addSyntax((sender, context) -> {}, Literal("float"), Float("val"));
                     addSyntax((sender, context) -> {}, Literal("long"), Long("val"));
                 }}
-        ));
-        final CommandParser commandParser = CommandParser.parser();
-        this.parser = input -> commandParser.parse(graph, input);
+        );
+        if (source.equals("manager")) {
+            final CommandManager manager = new CommandManager();
+            commands.forEach(manager::register);
+            this.parser = manager::parseCommand;
+        } else {
+            final Graph graph = Graph.merge(commands);
+            final CommandParser commandParser = CommandParser.parser();
+            this.parser = input -> commandParser.parse(graph, input);
+        }
     }
 
     @Benchmark
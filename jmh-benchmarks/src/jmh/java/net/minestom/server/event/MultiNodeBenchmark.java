@@ -46,4 +46,10 @@ public class MultiNodeBenchmark {
     public void call() {
         node.call(new TestEvent());
     }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dminestom.event.flatten-handles=true")
+    public void callFlattened() {
+        node.call(new TestEvent());
+    }
 }
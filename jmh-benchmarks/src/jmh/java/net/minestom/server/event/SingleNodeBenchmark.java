@@ -51,4 +51,16 @@ public class SingleNodeBenchmark {
     public void handleCall() {
         handle.call(new TestEvent());
     }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dminestom.event.flatten-handles=true")
+    public void callFlattened() {
+        node.call(new TestEvent());
+    }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dminestom.event.flatten-handles=true")
+    public void handleCallFlattened() {
+        handle.call(new TestEvent());
+    }
 }
@@ -30,6 +30,14 @@ public class PaletteReplaceBenchmark {
         palette.replaceAll((x, y, z, value) -> value + 1);
     }
 
+    @Benchmark
+    public void replaceArray() {
+        final int dimension = palette.dimension();
+        int[] values = new int[palette.maxSize()];
+        palette.getAll((x, y, z, value) -> values[y * dimension * dimension + z * dimension + x] = value + 1);
+        palette.setAll(values);
+    }
+
     @Benchmark
     public void replaceLoop() {
         final int dimension = palette.dimension();
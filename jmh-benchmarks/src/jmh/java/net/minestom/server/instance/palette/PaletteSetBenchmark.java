@@ -17,10 +17,16 @@ public class PaletteSetBenchmark {
     public int dimension;
 
     private Palette palette;
+    private Palette source;
+    private int[] incrValues;
 
     @Setup
     public void setup() {
         palette = Palette.newPalette(dimension, 15, 4);
+        source = Palette.newPalette(dimension, 15, 4);
+        source.setAll((x, y, z) -> x + y + z + 1);
+        incrValues = new int[palette.maxSize()];
+        for (int i = 0; i < incrValues.length; i++) incrValues[i] = i;
     }
 
     @Benchmark
@@ -63,8 +69,24 @@ public class PaletteSetBenchmark {
         palette.setAll((x, y, z) -> 5);
     }
 
+    @Benchmark
+    public void incrWriteArray() {
+        palette.setAll(incrValues);
+    }
+
     @Benchmark
     public void fill() {
         palette.fill(5);
     }
+
+    @Benchmark
+    public void fillRegion() {
+        final int half = palette.dimension() / 2;
+        palette.fill(0, 0, 0, half, half, half, 5);
+    }
+
+    @Benchmark
+    public void copyFrom() {
+        palette.copyFrom(source);
+    }
 }
@@ -0,0 +1,91 @@
+package net.minestom.server.listener;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PlayerMovementBenchmark {
+
+    @Param({"false", "true"})
+    public boolean moveListener;
+
+    private Player player;
+    private ClientPlayerPositionPacket[] positions;
+    private ClientPlayerRotationPacket[] rotations;
+    private ClientPlayerPositionAndRotationPacket[] positionAndRotations;
+    private int index;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        Instance instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.loadChunk(0, 0).join();
+        if (moveListener) {
+            MinecraftServer.getGlobalEventHandler().addListener(PlayerMoveEvent.class, event -> {
+                // Empty
+            });
+        }
+
+        this.player = new Player(UUID.randomUUID(), "Bench", new BenchConnection());
+        this.player.setRespawnPoint(new Pos(8, 40, 8));
+        this.player.UNSAFE_init(instance).join();
+
+        // Alternate between two values to never hit the same position fast exit
+        this.positions = new ClientPlayerPositionPacket[]{
+                new ClientPlayerPositionPacket(new Pos(8, 40, 8), true),
+                new ClientPlayerPositionPacket(new Pos(8.1, 40, 8.1), true)};
+        this.rotations = new ClientPlayerRotationPacket[]{
+                new ClientPlayerRotationPacket(0, 0, true),
+                new ClientPlayerRotationPacket(90, 10, true)};
+        this.positionAndRotations = new ClientPlayerPositionAndRotationPacket[]{
+                new ClientPlayerPositionAndRotationPacket(new Pos(8, 40, 8, 0, 0), true),
+                new ClientPlayerPositionAndRotationPacket(new Pos(8.1, 40, 8.1, 90, 10), true)};
+    }
+
+    @Benchmark
+    public void position() {
+        PlayerPositionListener.playerPositionListener(positions[index++ & 1], player);
+    }
+
+    @Benchmark
+    public void rotation() {
+        PlayerPositionListener.playerLookListener(rotations[index++ & 1], player);
+    }
+
+    @Benchmark
+    public void positionAndRotation() {
+        PlayerPositionListener.playerPositionAndLookListener(positionAndRotations[index++ & 1], player);
+    }
+
+    static final class BenchConnection extends PlayerConnection {
+        @Override
+        public void sendPacket(@NotNull SendablePacket packet) {
+            // Empty
+        }
+
+        @Override
+        public @NotNull SocketAddress getRemoteAddress() {
+            return new InetSocketAddress(0);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import net.minestom.server.advancements.AdvancementManager;
 import net.minestom.server.adventure.bossbar.BossBarManager;
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.GlobalEventHandler;
 import net.minestom.server.event.server.ServerTickMonitorEvent;
@@ -15,6 +16,7 @@ import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceManager;
 import net.minestom.server.instance.block.BlockManager;
+import net.minestom.server.inventory.Inventory;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.monitoring.TickMonitor;
@@ -312,6 +314,25 @@ final class ServerProcessImpl implements ServerProcess {
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(tickStart);
 
+            // Send the block changes of the tick
+            for (Instance instance : instance().getInstances()) {
+                try {
+                    instance.flushBlockChanges();
+                } catch (Exception e) {
+                    exception().handleException(e);
+                }
+            }
+            // Send the inventory changes of the tick
+            for (Player player : connection().getOnlinePlayers()) {
+                try {
+                    player.getInventory().flushUpdate();
+                    final Inventory openInventory = player.getOpenInventory();
+                    if (openInventory != null) openInventory.flushUpdate();
+                } catch (Exception e) {
+                    exception().handleException(e);
+                }
+            }
+
             // Clear removed entities & update threads
             final long tickTime = System.currentTimeMillis() - tickStart;
             dispatcher().refreshThreads(tickTime);
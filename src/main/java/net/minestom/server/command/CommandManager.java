@@ -1,19 +1,37 @@
 package net.minestom.server.command;
 
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandDispatcher;
 import net.minestom.server.command.builder.CommandResult;
 import net.minestom.server.command.builder.ParsedCommand;
+import net.minestom.server.command.builder.suggestion.Suggestion;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerCommandEvent;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import net.minestom.server.utils.callback.CommandCallback;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Manager used to register {@link Command commands}.
@@ -22,7 +40,11 @@ import java.util.*;
  */
 public final class CommandManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommandManager.class);
+    private static final Component IN_FLIGHT_LIMIT_TEXT = Component.text("Too many commands are running, please wait", NamedTextColor.RED);
+
     public static final String COMMAND_PREFIX = "/";
+    private static final int MAX_CACHED_PACKETS = 64;
 
     private final ServerSender serverSender = new ServerSender();
     private final ConsoleSender consoleSender = new ConsoleSender();
@@ -30,9 +52,19 @@ public final class CommandManager {
     private final CommandDispatcher dispatcher = new CommandDispatcher(this);
     private final Map<String, Command> commandMap = new HashMap<>();
     private final Set<Command> commands = new HashSet<>();
+    // Graph of each root command, rebuilt only when the command tree is modified
+    private final Map<Command, CommandGraph> commandGraphs = new HashMap<>();
+    // Incremented on each registration or modification of a registered command
+    private final AtomicLong modification = new AtomicLong();
+    private final Runnable modificationListener = modification::incrementAndGet;
+    private volatile CachedGraph cachedGraph;
 
     private CommandCallback unknownCommandCallback;
 
+    private volatile AsyncSettings asyncSettings;
+    // Number of async executions and suggestions currently running for each sender
+    private final Map<CommandSender, Integer> inFlight = new ConcurrentHashMap<>();
+
     public CommandManager() {
     }
 
@@ -55,6 +87,8 @@ public final class CommandManager {
         for (String name : command.getNames()) {
             commandMap.put(name, command);
         }
+        command.addModificationListener(modificationListener);
+        this.modification.incrementAndGet();
     }
 
     /**
@@ -63,11 +97,14 @@ public final class CommandManager {
      *
      * @param command the command to remove
      */
-    public void unregister(@NotNull Command command) {
+    public synchronized void unregister(@NotNull Command command) {
         commands.remove(command);
         for (String name : command.getNames()) {
             commandMap.remove(name);
         }
+        command.removeModificationListener(modificationListener);
+        this.commandGraphs.remove(command);
+        this.modification.incrementAndGet();
     }
 
     /**
@@ -108,18 +145,69 @@ public final class CommandManager {
             command = playerCommandEvent.getCommand();
         }
         // Process the command
-        final CommandParser.Result parsedCommand = parseCommand(command);
-        final ExecutableCommand executable = parsedCommand.executable();
-        final ExecutableCommand.Result executeResult = executable.execute(sender);
-        final CommandResult result = resultConverter(executable, executeResult, command);
+        final CommandResult result = executeParsed(sender, command);
         if (result.getType() == CommandResult.Type.UNKNOWN) {
-            if (unknownCommandCallback != null) {
-                this.unknownCommandCallback.apply(sender, command);
-            }
+            unknownCommand(sender, command);
         }
         return result;
     }
 
+    /**
+     * Executes a command for a {@link CommandSender} using the {@link AsyncSettings} of this manager.
+     * <p>
+     * The {@link PlayerCommandEvent} is called on the current thread, parsing and execution
+     * then happen on the async executor. The returned future is completed in the tick thread
+     * of the sender if it is a {@link Player}.
+     * <p>
+     * Executes synchronously if async execution is disabled.
+     *
+     * @param sender  the sender of the command
+     * @param command the raw command string (without the command prefix)
+     * @return the future execution result, {@link CommandResult.Type#CANCELLED} if the sender
+     * has too many commands in flight or if the execution timed out
+     */
+    public @NotNull CompletableFuture<CommandResult> executeAsync(@NotNull CommandSender sender, @NotNull String command) {
+        final AsyncSettings settings = this.asyncSettings;
+        if (settings == null) return CompletableFuture.completedFuture(execute(sender, command));
+        command = command.trim();
+        // Command event
+        if (sender instanceof Player player) {
+            PlayerCommandEvent playerCommandEvent = new PlayerCommandEvent(player, command);
+            EventDispatcher.call(playerCommandEvent);
+            if (playerCommandEvent.isCancelled())
+                return CompletableFuture.completedFuture(CommandResult.of(CommandResult.Type.CANCELLED, command));
+            command = playerCommandEvent.getCommand();
+        }
+        final String input = command;
+        final CommandResult cancelled = CommandResult.of(CommandResult.Type.CANCELLED, input);
+        return submitAsync(settings, sender, () -> executeParsed(sender, input), cancelled, true)
+                .thenApply(result -> {
+                    if (result.getType() == CommandResult.Type.UNKNOWN) {
+                        unknownCommand(sender, input);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Computes the suggestion of a partial command for a {@link CommandSender} using the {@link AsyncSettings}
+     * of this manager, allowing {@link net.minestom.server.command.builder.suggestion.SuggestionCallback}
+     * to run blocking operations.
+     * <p>
+     * The returned future is completed in the tick thread of the sender if it is a {@link Player}.
+     * Computes synchronously if async execution is disabled.
+     *
+     * @param sender the sender of the suggestion request
+     * @param input  the partial command (without the command prefix)
+     * @return the future suggestion, null if there is none, if the sender has too many
+     * requests in flight or if the computation timed out
+     */
+    public @NotNull CompletableFuture<@Nullable Suggestion> suggestAsync(@NotNull CommandSender sender, @NotNull String input) {
+        final AsyncSettings settings = this.asyncSettings;
+        if (settings == null) return CompletableFuture.completedFuture(parseCommand(input).suggestion(sender));
+        return submitAsync(settings, sender, () -> parseCommand(input).suggestion(sender), null, false);
+    }
+
     /**
      * Executes the command using a {@link ServerSender}. This can be used
      * to run a silent command (nothing is printed to console).
@@ -153,6 +241,25 @@ public final class CommandManager {
         this.unknownCommandCallback = unknownCommandCallback;
     }
 
+    /**
+     * Gets the settings used by {@link #executeAsync(CommandSender, String)}
+     * and {@link #suggestAsync(CommandSender, String)}.
+     *
+     * @return the async settings, null if commands are executed synchronously
+     */
+    public @Nullable AsyncSettings getAsyncSettings() {
+        return asyncSettings;
+    }
+
+    /**
+     * Enables or disables the async execution of commands and suggestions received from players.
+     *
+     * @param asyncSettings the new async settings, null to execute synchronously
+     */
+    public void setAsyncSettings(@Nullable AsyncSettings asyncSettings) {
+        this.asyncSettings = asyncSettings;
+    }
+
     /**
      * Gets the {@link ConsoleSender} (which is used as a {@link CommandSender}).
      *
@@ -174,6 +281,31 @@ public final class CommandManager {
         return GraphConverter.createPacket(getGraph(), player);
     }
 
+    /**
+     * Gets the {@link DeclareCommandsPacket} for a specific player, shared and encoded once
+     * for all players seeing the same commands.
+     *
+     * @param player the player to get the commands packet
+     * @return the cached commands packet for {@code player}
+     */
+    @ApiStatus.Internal
+    public @NotNull SendablePacket getDeclareCommandsPacket(@NotNull Player player) {
+        final CachedGraph cached = updatedGraph();
+        final Graph graph = cached.graph();
+        final BitSet profile = GraphConverter.visibilityProfile(graph, player);
+        final Map<BitSet, CachedPacket> packets = cached.packets();
+        CachedPacket packet = packets.get(profile);
+        if (packet == null) {
+            packet = new CachedPacket(() -> GraphConverter.createProfilePacket(graph, profile));
+            // Prevent unbounded growth when conditions are specific to each player
+            if (packets.size() < MAX_CACHED_PACKETS) {
+                final CachedPacket previous = packets.putIfAbsent(profile, packet);
+                if (previous != null) packet = previous;
+            }
+        }
+        return packet;
+    }
+
     public @NotNull Set<@NotNull Command> getCommands() {
         return Collections.unmodifiableSet(commands);
     }
@@ -189,8 +321,104 @@ public final class CommandManager {
     }
 
     private Graph getGraph() {
-        //todo cache
-        return Graph.merge(commands);
+        return updatedGraph().graph();
+    }
+
+    private CachedGraph updatedGraph() {
+        final CachedGraph cached = this.cachedGraph;
+        if (cached != null && cached.modification() == modification.get()) return cached;
+        return rebuildGraph();
+    }
+
+    private synchronized CachedGraph rebuildGraph() {
+        // Retrieved before building, a concurrent modification will trigger another rebuild
+        final long managerModification = this.modification.get();
+        final CachedGraph cached = this.cachedGraph;
+        if (cached != null && cached.modification() == managerModification) return cached;
+        List<Graph> graphs = new ArrayList<>(commands.size());
+        for (Command command : commands) {
+            final long modification = command.getModification();
+            CommandGraph commandGraph = commandGraphs.get(command);
+            if (commandGraph == null || commandGraph.modification() != modification) {
+                commandGraph = new CommandGraph(modification, Graph.fromCommand(command));
+                this.commandGraphs.put(command, commandGraph);
+            }
+            graphs.add(commandGraph.graph());
+        }
+        final CachedGraph result = new CachedGraph(managerModification, Graph.merge(graphs), new ConcurrentHashMap<>());
+        this.cachedGraph = result;
+        return result;
+    }
+
+    private @NotNull CommandResult executeParsed(@NotNull CommandSender sender, @NotNull String command) {
+        final CommandParser.Result parsedCommand = parseCommand(command);
+        final ExecutableCommand executable = parsedCommand.executable();
+        final ExecutableCommand.Result executeResult = executable.execute(sender);
+        return resultConverter(executable, executeResult, command);
+    }
+
+    private void unknownCommand(@NotNull CommandSender sender, @NotNull String command) {
+        final CommandCallback callback = this.unknownCommandCallback;
+        if (callback != null) callback.apply(sender, command);
+    }
+
+    private <T> @NotNull CompletableFuture<T> submitAsync(@NotNull AsyncSettings settings, @NotNull CommandSender sender,
+                                                          @NotNull Supplier<T> task, T fallback, boolean notify) {
+        if (inFlight.merge(sender, 1, Integer::sum) > settings.maxInFlight()) {
+            release(sender);
+            // Suggestions are requested on each keystroke, only report rejected executions
+            if (notify) {
+                LOGGER.warn("Command rejected, {} has reached the limit of {} commands in flight", sender, settings.maxInFlight());
+                sender.sendMessage(IN_FLIGHT_LIMIT_TEXT);
+            }
+            return CompletableFuture.completedFuture(fallback);
+        }
+        final CompletableFuture<T> execution;
+        try {
+            execution = CompletableFuture.supplyAsync(task, settings.executor());
+        } catch (RejectedExecutionException e) {
+            release(sender);
+            return CompletableFuture.completedFuture(fallback);
+        }
+        // The slot is only released once the task really ends, even after a timeout
+        execution.whenComplete((value, throwable) -> release(sender));
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        execution.copy().orTimeout(settings.timeout().toNanos(), TimeUnit.NANOSECONDS)
+                .whenComplete((value, throwable) -> {
+                    final T resolved;
+                    if (throwable == null) {
+                        resolved = value;
+                    } else {
+                        final Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+                        if (!(cause instanceof TimeoutException)) MinecraftServer.getExceptionManager().handleException(cause);
+                        resolved = fallback;
+                    }
+                    // Hand the result back to the thread ticking the sender
+                    if (sender instanceof Player player && player.isOnline() && !player.isRemoved()) {
+                        player.scheduleNextTick(entity -> result.complete(resolved));
+                        completeIfRemoved(player, result, resolved, settings.timeout().toNanos());
+                    } else {
+                        result.complete(resolved);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Completes {@code result} directly once {@code player} is removed, as its scheduled tasks are never run.
+     * Checked every {@code delay} nanoseconds so that a slow tick does not complete it outside the tick thread.
+     */
+    private static <T> void completeIfRemoved(@NotNull Player player, @NotNull CompletableFuture<T> result,
+                                              T value, long delay) {
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone()) return;
+            if (!player.isOnline() || player.isRemoved()) result.complete(value);
+            else completeIfRemoved(player, result, value, delay);
+        });
+    }
+
+    private void release(@NotNull CommandSender sender) {
+        this.inFlight.computeIfPresent(sender, (s, count) -> count > 1 ? count - 1 : null);
     }
 
     private static CommandResult resultConverter(ExecutableCommand executable,
@@ -203,4 +431,30 @@ public final class CommandManager {
             case UNKNOWN -> CommandResult.Type.UNKNOWN;
         }, input, ParsedCommand.fromExecutable(executable), newResult.commandData());
     }
+
+    /**
+     * Settings of the async command pipeline.
+     *
+     * @param executor    the executor running the parsing, executors and suggestion callbacks
+     * @param timeout     the maximum duration before an execution or suggestion is considered cancelled,
+     *                    the task itself is not interrupted
+     * @param maxInFlight the maximum number of executions and suggestions running at once for a single sender
+     */
+    public record AsyncSettings(@NotNull Executor executor, @NotNull Duration timeout, int maxInFlight) {
+        public AsyncSettings {
+            Check.notNull(executor, "The executor cannot be null");
+            Check.argCondition(timeout.isNegative() || timeout.isZero(), "The timeout must be positive");
+            Check.argCondition(maxInFlight < 1, "The in-flight limit must be positive");
+        }
+    }
+
+    /**
+     * @param modification the manager modification stamp when the graph was built
+     * @param packets      the commands packets of the graph, keyed by visibility profile
+     */
+    private record CachedGraph(long modification, Graph graph, Map<BitSet, CachedPacket> packets) {
+    }
+
+    private record CommandGraph(long modification, Graph graph) {
+    }
 }
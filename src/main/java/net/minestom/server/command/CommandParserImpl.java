@@ -6,6 +6,12 @@ import net.minestom.server.command.builder.CommandContext;
 import net.minestom.server.command.builder.CommandData;
 import net.minestom.server.command.builder.CommandExecutor;
 import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.ArgumentLiteral;
+import net.minestom.server.command.builder.arguments.ArgumentWord;
+import net.minestom.server.command.builder.arguments.number.ArgumentDouble;
+import net.minestom.server.command.builder.arguments.number.ArgumentFloat;
+import net.minestom.server.command.builder.arguments.number.ArgumentInteger;
+import net.minestom.server.command.builder.arguments.number.ArgumentLong;
 import net.minestom.server.command.builder.condition.CommandCondition;
 import net.minestom.server.command.builder.exception.ArgumentSyntaxException;
 import net.minestom.server.command.builder.suggestion.Suggestion;
@@ -147,7 +153,13 @@ final class CommandParserImpl implements CommandParser {
 
     private static NodeResult parseChild(Node parent, CommandStringReader reader) {
         if (!reader.hasRemaining()) return null;
-        for (Node child : parent.next()) {
+        final List<Node> children = parent.next();
+        final GraphImpl.ChildIndex childIndex = ((GraphImpl.NodeImpl) parent).childIndex();
+        // Only the first literal equal to the next word can match, no need to try the others
+        final int literal = childIndex.literals().isEmpty() ? -1 : childIndex.literal(reader.peekWord());
+        for (int i : childIndex.others()) {
+            if (literal != -1 && i > literal) break; // The literal has priority
+            final Node child = children.get(i);
             final Argument<?> argument = child.argument();
             final int start = reader.cursor();
             final ArgumentResult<?> parse = parse(argument, reader);
@@ -162,6 +174,12 @@ final class CommandParserImpl implements CommandParser {
                 reader.cursor(start);
             }
         }
+        if (literal != -1) {
+            final Node child = children.get(literal);
+            final String word = reader.readWord();
+            return new NodeResult(child, new ArgumentResult.Success<>(word, word),
+                    child.argument().getSuggestionCallback());
+        }
         for (Node node : parent.next()) {
             final SuggestionCallback suggestionCallback = node.argument().getSuggestionCallback();
             if (suggestionCallback != null) {
@@ -356,6 +374,12 @@ final class CommandParserImpl implements CommandParser {
             return read;
         }
 
+        String peekWord() {
+            final String input = this.input;
+            final int i = input.indexOf(' ', cursor);
+            return i == -1 ? input.substring(cursor) : input.substring(cursor, i);
+        }
+
         String readRemaining() {
             final String input = this.input;
             final String result = input.substring(cursor);
@@ -381,6 +405,7 @@ final class CommandParserImpl implements CommandParser {
             // Single word argument
             if (!argument.allowSpace()) {
                 final String word = reader.readWord();
+                if (!isCompatible(argument, word)) return new ArgumentResult.IncompatibleType<>();
                 return new ArgumentResult.Success<>(argument.parse(word), word);
             }
             // Complete input argument
@@ -407,6 +432,37 @@ final class CommandParserImpl implements CommandParser {
         return new ArgumentResult.IncompatibleType<>();
     }
 
+    /**
+     * Cheap checks for common argument types, avoiding exception-driven parsing of clearly incompatible input.
+     * <p>
+     * Only rejects input that {@link Argument#parse(String)} would reject, subclasses are never checked.
+     */
+    private static boolean isCompatible(Argument<?> argument, String word) {
+        final Class<?> type = argument.getClass();
+        if (type == ArgumentLiteral.class) {
+            return word.equals(argument.getId());
+        } else if (type == ArgumentWord.class) {
+            final String[] restrictions = ((ArgumentWord) argument).getRestrictions();
+            if (restrictions == null || restrictions.length == 0) return true;
+            for (String restriction : restrictions) {
+                if (word.equals(restriction)) return true;
+            }
+            return false;
+        } else if (type == ArgumentInteger.class || type == ArgumentLong.class) {
+            if (word.isEmpty()) return false;
+            final char first = word.charAt(0);
+            // Leading dot for scientific notation (e.g. ".5e3")
+            return Character.isDigit(first) || first == '-' || first == '+' || first == '.';
+        } else if (type == ArgumentFloat.class || type == ArgumentDouble.class) {
+            if (word.isEmpty()) return false;
+            final char first = word.charAt(0);
+            // Also accepts NaN, Infinity and leading whitespaces
+            return Character.isDigit(first) || first == '-' || first == '+' || first == '.' ||
+                    first == 'N' || first == 'I' || Character.isWhitespace(first);
+        }
+        return true;
+    }
+
     private sealed interface ArgumentResult<R> {
         record Success<T>(T value, String input)
                 implements ArgumentResult<T> {
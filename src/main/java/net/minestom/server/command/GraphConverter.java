@@ -9,6 +9,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 final class GraphConverter {
     private GraphConverter() {
@@ -17,11 +18,56 @@ final class GraphConverter {
 
     @Contract("_, _ -> new")
     public static DeclareCommandsPacket createPacket(Graph graph, @Nullable Player player) {
+        return createFilteredPacket(graph, player != null ? execution -> execution.test(player) : null);
+    }
+
+    /**
+     * Creates the packet with a filter replaying the results of {@link #visibilityProfile(Graph, Player)}.
+     *
+     * @param graph   the graph used to compute the profile
+     * @param profile the visibility profile
+     * @return the packet, identical to the one of any player with the same profile
+     */
+    @Contract("_, _ -> new")
+    public static DeclareCommandsPacket createProfilePacket(Graph graph, BitSet profile) {
+        final int[] index = new int[1];
+        return createFilteredPacket(graph, execution -> profile.get(index[0]++));
+    }
+
+    /**
+     * Computes the result of every condition tested during the creation of the packet of {@code player},
+     * in traversal order.
+     * <p>
+     * Players with equal profiles receive byte-identical packets.
+     *
+     * @param graph  the graph to test
+     * @param player the player to test the conditions against
+     * @return the visibility profile of the player
+     */
+    public static BitSet visibilityProfile(Graph graph, Player player) {
+        BitSet profile = new BitSet();
+        appendProfile(graph.root(), player, profile, new int[1]);
+        return profile;
+    }
+
+    private static void appendProfile(Graph.Node graphNode, Player player, BitSet profile, int[] index) {
+        final Graph.Execution execution = graphNode.execution();
+        if (execution != null) {
+            final boolean visible = execution.test(player);
+            profile.set(index[0]++, visible);
+            if (!visible) return;
+        }
+        for (Graph.Node child : graphNode.next()) {
+            appendProfile(child, player, profile, index);
+        }
+    }
+
+    private static DeclareCommandsPacket createFilteredPacket(Graph graph, @Nullable Predicate<Graph.Execution> filter) {
         List<DeclareCommandsPacket.Node> nodes = new ArrayList<>();
         List<BiConsumer<Graph, Integer>> redirects = new ArrayList<>();
         Map<Argument<?>, Integer> argToPacketId = new HashMap<>();
         final AtomicInteger idSource = new AtomicInteger(0);
-        final int rootId = append(graph.root(), nodes, redirects, idSource, null, player, argToPacketId)[0];
+        final int rootId = append(graph.root(), nodes, redirects, idSource, null, filter, argToPacketId)[0];
         for (var r : redirects) {
             r.accept(graph, rootId);
         }
@@ -30,10 +76,10 @@ final class GraphConverter {
 
     private static int[] append(Graph.Node graphNode, List<DeclareCommandsPacket.Node> to,
                                 List<BiConsumer<Graph, Integer>> redirects, AtomicInteger id, @Nullable AtomicInteger redirect,
-                                @Nullable Player player, Map<Argument<?>, Integer> argToPacketId) {
+                                @Nullable Predicate<Graph.Execution> filter, Map<Argument<?>, Integer> argToPacketId) {
         final Graph.Execution execution = graphNode.execution();
-        if (player != null && execution != null) {
-            if (!execution.test(player)) return new int[0];
+        if (filter != null && execution != null) {
+            if (!filter.test(execution)) return new int[0];
         }
 
         final Argument<?> argument = graphNode.argument();
@@ -42,7 +88,7 @@ final class GraphConverter {
         final DeclareCommandsPacket.Node node = new DeclareCommandsPacket.Node();
         int[] packetNodeChildren = new int[children.size()];
         for (int i = 0, appendIndex = 0; i < children.size(); i++) {
-            final int[] append = append(children.get(i), to, redirects, id, redirect, player, argToPacketId);
+            final int[] append = append(children.get(i), to, redirects, id, redirect, filter, argToPacketId);
             if (append.length > 0) {
                 argToPacketId.put(children.get(i).argument(), append[0]);
             }
@@ -117,7 +163,7 @@ final class GraphConverter {
                     if (i == entries.size() - 1) {
                         // Last will be the parent of next args
                         final int[] l = append(new GraphImpl.NodeImpl(entry, null, List.of()), to, redirects,
-                                id, redirect, player, argToPacketId);
+                                id, redirect, filter, argToPacketId);
                         for (int n : l) {
                             to.get(n).children = node.children;
                         }
@@ -128,11 +174,11 @@ final class GraphConverter {
                     } else if (i == 0) {
                         // First will be the children & parent of following
                         res = append(new GraphImpl.NodeImpl(entry, null, List.of()), to, redirects, id,
-                                null, player, argToPacketId);
+                                null, filter, argToPacketId);
                         last = res;
                     } else {
                         final int[] l = append(new GraphImpl.NodeImpl(entry, null, List.of()), to, redirects,
-                                id, null, player, argToPacketId);
+                                id, null, filter, argToPacketId);
                         for (int n : last) {
                             to.get(n).children = l;
                         }
@@ -147,7 +193,7 @@ final class GraphConverter {
                 for (int i = 0, appendIndex = 0; i < arguments.size(); i++) {
                     Object arg = arguments.get(i);
                     final int[] append = append(new GraphImpl.NodeImpl((Argument<?>) arg, null, List.of()), to,
-                            redirects, id, r, player, argToPacketId);
+                            redirects, id, r, filter, argToPacketId);
                     if (append.length == 1) {
                         res[appendIndex++] = append[0];
                     } else {
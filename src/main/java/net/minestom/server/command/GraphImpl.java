@@ -4,6 +4,7 @@ import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandExecutor;
 import net.minestom.server.command.builder.CommandSyntax;
 import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.ArgumentLiteral;
 import net.minestom.server.command.builder.condition.CommandCondition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -61,7 +62,12 @@ record GraphImpl(NodeImpl root) implements Graph {
         }
     }
 
-    record NodeImpl(Argument<?> argument, ExecutionImpl execution, List<Graph.Node> next) implements Graph.Node {
+    record NodeImpl(Argument<?> argument, ExecutionImpl execution, List<Graph.Node> next,
+                    ChildIndex childIndex) implements Graph.Node {
+        NodeImpl(Argument<?> argument, ExecutionImpl execution, List<Graph.Node> next) {
+            this(argument, execution, next, ChildIndex.of(next));
+        }
+
         static NodeImpl fromBuilder(BuilderImpl builder) {
             final List<BuilderImpl> children = builder.children;
             Node[] nodes = new NodeImpl[children.size()];
@@ -78,6 +84,33 @@ record GraphImpl(NodeImpl root) implements Graph {
         }
     }
 
+    /**
+     * Pre-computed lookup of the children of a node, used by the parser to avoid trying every child in order.
+     *
+     * @param literals the index of the first literal child for each literal value
+     * @param others   the ordered indexes of the children which are not plain literals
+     */
+    record ChildIndex(Map<String, Integer> literals, List<Integer> others) {
+        static ChildIndex of(List<Graph.Node> children) {
+            Map<String, Integer> literals = new HashMap<>();
+            List<Integer> others = new ArrayList<>();
+            for (int i = 0; i < children.size(); i++) {
+                final Argument<?> argument = children.get(i).argument();
+                if (argument.getClass() == ArgumentLiteral.class) {
+                    literals.putIfAbsent(argument.getId(), i);
+                } else {
+                    others.add(i);
+                }
+            }
+            return new ChildIndex(Map.copyOf(literals), List.copyOf(others));
+        }
+
+        int literal(String value) {
+            final Integer index = literals.get(value);
+            return index != null ? index : -1;
+        }
+    }
+
     record ExecutionImpl(Predicate<CommandSender> predicate,
                          CommandExecutor defaultExecutor, CommandExecutor globalListener,
                          CommandExecutor executor, CommandCondition condition) implements Execution {
@@ -16,6 +16,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -56,6 +58,13 @@ public class Command {
     private final List<Command> subcommands;
     private final List<CommandSyntax> syntaxes;
 
+    // Incremented on each change of this command or its subcommands, used to invalidate cached command graphs
+    private final AtomicLong modification = new AtomicLong();
+    // Commands having this one as a subcommand, notified of its modifications
+    private final List<Command> parents = new CopyOnWriteArrayList<>();
+    // Called on each modification, used by the managers having this command registered
+    private final List<Runnable> modificationListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Creates a {@link Command} with a name and one or multiple aliases.
      *
@@ -105,6 +114,7 @@ public class Command {
      */
     public void setCondition(@Nullable CommandCondition commandCondition) {
         this.condition = commandCondition;
+        markModified();
     }
 
     /**
@@ -121,6 +131,8 @@ public class Command {
 
     public void addSubcommand(@NotNull Command command) {
         this.subcommands.add(command);
+        command.parents.add(this);
+        markModified();
     }
 
     @NotNull
@@ -160,7 +172,9 @@ public class Command {
 
         if (!hasOptional) {
             final CommandSyntax syntax = new CommandSyntax(commandCondition, executor, args);
+            syntax.command = this;
             this.syntaxes.add(syntax);
+            markModified();
             return List.of(syntax);
         } else {
             List<CommandSyntax> optionalSyntaxes = new ArrayList<>();
@@ -198,7 +212,9 @@ public class Command {
                 }
             }
 
+            optionalSyntaxes.forEach(syntax -> syntax.command = this);
             this.syntaxes.addAll(optionalSyntaxes);
+            markModified();
             return optionalSyntaxes;
         }
     }
@@ -275,16 +291,57 @@ public class Command {
      */
     public void setDefaultExecutor(@Nullable CommandExecutor executor) {
         this.defaultExecutor = executor;
+        markModified();
     }
 
     /**
      * Gets all the syntaxes of this command.
+     * <p>
+     * The returned collection cannot be modified, syntaxes are added using the {@code addSyntax} methods
+     * so that cached command graphs are invalidated.
      *
-     * @return a collection containing all this command syntaxes
+     * @return an unmodifiable view of this command syntaxes
      * @see #addSyntax(CommandExecutor, Argument[])
      */
     public @NotNull Collection<CommandSyntax> getSyntaxes() {
-        return syntaxes;
+        return Collections.unmodifiableCollection(syntaxes);
+    }
+
+    /**
+     * Gets the modification stamp of this command tree.
+     * <p>
+     * The stamp is specific to this command, a different value means that the command or one of its subcommands changed.
+     *
+     * @return the last modification stamp
+     */
+    @ApiStatus.Internal
+    public long getModification() {
+        return modification.get();
+    }
+
+    /**
+     * Adds a listener called on each modification of this command or one of its subcommands.
+     *
+     * @param listener the listener to add
+     */
+    @ApiStatus.Internal
+    public void addModificationListener(@NotNull Runnable listener) {
+        this.modificationListeners.add(listener);
+    }
+
+    @ApiStatus.Internal
+    public void removeModificationListener(@NotNull Runnable listener) {
+        this.modificationListeners.remove(listener);
+    }
+
+    void markModified() {
+        this.modification.incrementAndGet();
+        for (Command parent : parents) {
+            parent.markModified();
+        }
+        for (Runnable listener : modificationListeners) {
+            listener.run();
+        }
     }
 
     /**
@@ -25,6 +25,9 @@ public class CommandSyntax {
 
     private final boolean suggestion;
 
+    // The command owning this syntax, notified of its modifications
+    Command command;
+
     protected CommandSyntax(@Nullable CommandCondition commandCondition,
                             @NotNull CommandExecutor commandExecutor,
                             @Nullable Map<String, Supplier<Object>> defaultValuesMap,
@@ -65,6 +68,7 @@ public class CommandSyntax {
      */
     public void setCommandCondition(@Nullable CommandCondition commandCondition) {
         this.commandCondition = commandCondition;
+        markModified();
     }
 
     /**
@@ -84,6 +88,7 @@ public class CommandSyntax {
      */
     public void setExecutor(@NotNull CommandExecutor executor) {
         this.executor = executor;
+        markModified();
     }
 
     @Nullable
@@ -105,6 +110,11 @@ public class CommandSyntax {
         return suggestion;
     }
 
+    private void markModified() {
+        final Command command = this.command;
+        if (command != null) command.markModified();
+    }
+
     public @NotNull String getSyntaxString() {
         StringBuilder builder = new StringBuilder();
         for (Argument<?> argument : args) {
@@ -17,7 +17,7 @@ public record Pos(double x, double y, double z, float yaw, float pitch) implemen
     public static final Pos ZERO = new Pos(0, 0, 0);
 
     public Pos {
-        yaw = fixYaw(yaw);
+        yaw = PositionUtils.fixYaw(yaw);
     }
 
     public Pos(double x, double y, double z) {
@@ -278,21 +278,4 @@ public record Pos(double x, double y, double z, float yaw, float pitch) implemen
     public interface Operator {
         @NotNull Pos apply(double x, double y, double z, float yaw, float pitch);
     }
-
-    /**
-     * Fixes a yaw value that is not between -180.0F and 180.0F
-     * So for example -1355.0F becomes 85.0F and 225.0F becomes -135.0F
-     *
-     * @param yaw The possible "wrong" yaw
-     * @return a fixed yaw
-     */
-    private static float fixYaw(float yaw) {
-        yaw = yaw % 360;
-        if (yaw < -180.0F) {
-            yaw += 360.0F;
-        } else if (yaw > 180.0F) {
-            yaw -= 360.0F;
-        }
-        return yaw;
-    }
 }
@@ -82,8 +82,6 @@ import net.minestom.server.utils.time.Cooldown;
 import net.minestom.server.utils.time.TimeUnit;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
-import org.jctools.queues.MessagePassingQueue;
-import org.jctools.queues.MpscUnboundedXaddArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -107,8 +105,6 @@ import java.util.function.UnaryOperator;
  */
 public class Player extends LivingEntity implements CommandSender, Localizable, HoverEventSource<ShowEntity>, Identified, NamedAndIdentified {
     private static final Component REMOVE_MESSAGE = Component.text("You have been removed from the server without reason.", NamedTextColor.RED);
-    private static final int PACKET_PER_TICK = Integer.getInteger("minestom.packet-per-tick", 20);
-    private static final int PACKET_QUEUE_SIZE = Integer.getInteger("minestom.packet-queue-size", 1000);
 
     private long lastKeepAlive;
     private boolean answerKeepAlive;
@@ -150,7 +146,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private final AtomicInteger teleportId = new AtomicInteger();
     private int receivedTeleportId;
 
-    private final MessagePassingQueue<ClientPacket> packets = new MpscUnboundedXaddArrayQueue<>(32);
+    private final PlayerPacketQueue packets = new PlayerPacketQueue();
     private final boolean levelFlat;
     private final PlayerSettings settings;
     private float exp;
@@ -493,7 +489,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * again, and any changes will be visible to the player.
      */
     public void refreshCommands() {
-        sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(this));
+        sendPacket(MinecraftServer.getCommandManager().getDeclareCommandsPacket(this));
     }
 
     @Override
@@ -667,7 +663,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         synchronizePosition(true); // So the player doesn't get stuck
 
         if (dimensionChange || firstSpawn) {
-            this.inventory.update();
+            this.inventory.refresh();
         }
 
         EventDispatcher.call(new PlayerSpawnEvent(this, instance, firstSpawn));
@@ -987,7 +983,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
             getViewers().forEach(player -> showPlayer(player.getPlayerConnection()));
         }
 
-        getInventory().update();
+        getInventory().refresh();
         teleport(getPosition());
     }
 
@@ -1146,7 +1142,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         sendPacketToViewersAndSelf(getPropertiesPacket());
         sendPacketToViewersAndSelf(getEquipmentsPacket());
 
-        getInventory().update();
+        getInventory().refresh();
     }
 
     /**
@@ -1487,7 +1483,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
                 this.openInventory = null;
             }
             sendPacket(closeWindowPacket);
-            inventory.update();
+            inventory.refresh();
             this.didCloseInventory = true;
         }
     }
@@ -1777,13 +1773,23 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     @ApiStatus.Internal
     @ApiStatus.Experimental
     public void interpretPacketQueue() {
-        if (this.packets.size() >= PACKET_QUEUE_SIZE) {
+        if (this.packets.isOverloaded()) {
             kick(Component.text("Too Many Packets", NamedTextColor.RED));
             return;
         }
         final PacketListenerManager manager = MinecraftServer.getPacketListenerManager();
         // This method is NOT thread-safe
-        this.packets.drain(packet -> manager.processClientPacket(packet, this), PACKET_PER_TICK);
+        this.packets.process(packet -> manager.processClientPacket(packet, this));
+    }
+
+    /**
+     * Gets the metrics of the packets received from this player and waiting to be processed.
+     *
+     * @return the packet queue metrics
+     */
+    @ApiStatus.Experimental
+    public @NotNull PacketQueueMetrics packetQueueMetrics() {
+        return packets.metrics();
     }
 
     /**
@@ -2212,4 +2218,16 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
 
     }
 
+    /**
+     * Metrics of the packets received from a player.
+     *
+     * @param queuedPackets    the number of packets waiting to be processed
+     * @param queuedCost       the cost of the waiting packets, a packet of average cost counting for 2
+     * @param processedPackets the total number of processed packets
+     * @param coalescedPackets the total number of movement packets skipped because a more recent one replaced them
+     * @param lastProcessNanos the time spent processing packets during the last tick
+     */
+    public record PacketQueueMetrics(int queuedPackets, int queuedCost,
+                                     long processedPackets, long coalescedPackets, long lastProcessNanos) {
+    }
 }
@@ -0,0 +1,150 @@
+package net.minestom.server.entity;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.event.player.PlayerPacketEvent;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.*;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedXaddArrayQueue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Packets received from a player, processed in its tick.
+ * <p>
+ * Each packet type has a cost, the queue processes packets until the tick cost or time budget is exhausted.
+ * Consecutive movement packets are coalesced when nothing observes the intermediate ones.
+ */
+final class PlayerPacketQueue {
+    private static final int CHEAP_COST = 1;
+    private static final int DEFAULT_COST = 2;
+    private static final int EXPENSIVE_COST = 8;
+    // Limits are expressed in packets of default cost
+    private static final int TICK_BUDGET = Integer.getInteger("minestom.packet-per-tick", 20) * DEFAULT_COST;
+    private static final int MAX_QUEUED_COST = Integer.getInteger("minestom.packet-queue-size", 1000) * DEFAULT_COST;
+    private static final long TIME_BUDGET = Long.getLong("minestom.packet-time-budget-us", 5_000) * 1_000;
+
+    private static final Object2IntMap<Class<? extends ClientPacket>> COSTS = new Object2IntOpenHashMap<>();
+
+    static {
+        COSTS.defaultReturnValue(DEFAULT_COST);
+        // Sent in bursts by legitimate clients
+        for (Class<? extends ClientPacket> type : List.of(
+                ClientPlayerPacket.class, ClientPlayerPositionPacket.class,
+                ClientPlayerRotationPacket.class, ClientPlayerPositionAndRotationPacket.class,
+                ClientTeleportConfirmPacket.class, ClientKeepAlivePacket.class, ClientPongPacket.class,
+                ClientAnimationPacket.class, ClientHeldItemChangePacket.class, ClientEntityActionPacket.class,
+                ClientClickWindowPacket.class, ClientCreativeInventoryActionPacket.class,
+                ClientSteerVehiclePacket.class, ClientVehicleMovePacket.class, ClientSteerBoatPacket.class)) {
+            COSTS.put(type, CHEAP_COST);
+        }
+        // Parsing, events and lookups
+        for (Class<? extends ClientPacket> type : List.of(
+                ClientCommandChatPacket.class, ClientTabCompletePacket.class, ClientChatMessagePacket.class,
+                ClientEditBookPacket.class, ClientCraftRecipeRequest.class, ClientPluginMessagePacket.class,
+                ClientQueryBlockNbtPacket.class, ClientQueryEntityNbtPacket.class,
+                ClientUpdateStructureBlockPacket.class, ClientGenerateStructurePacket.class)) {
+            COSTS.put(type, EXPENSIVE_COST);
+        }
+    }
+
+    private final MessagePassingQueue<ClientPacket> packets = new MpscUnboundedXaddArrayQueue<>(32);
+    private final AtomicInteger queuedCost = new AtomicInteger();
+
+    // Written by the ticking thread only
+    private volatile long processedCount;
+    private volatile long coalescedCount;
+    private volatile long lastProcessTime;
+
+    void offer(@NotNull ClientPacket packet) {
+        this.packets.offer(packet);
+        this.queuedCost.addAndGet(cost(packet));
+    }
+
+    /**
+     * Gets if the client sent more than the queue can hold.
+     *
+     * @return true if the player should be kicked
+     */
+    boolean isOverloaded() {
+        return queuedCost.get() >= MAX_QUEUED_COST;
+    }
+
+    /**
+     * Processes the packets fitting in the tick budgets.
+     * <p>
+     * This method is NOT thread-safe.
+     *
+     * @param processor the consumer processing the packets
+     */
+    void process(@NotNull Consumer<ClientPacket> processor) {
+        final long start = System.nanoTime();
+        final boolean coalesce = !EventDispatcher.getHandle(PlayerMoveEvent.class).hasListener() &&
+                !EventDispatcher.getHandle(PlayerPacketEvent.class).hasListener();
+        int budget = TICK_BUDGET;
+        long processed = 0, coalesced = 0;
+        ClientPacket packet;
+        while (budget > 0 && (packet = packets.relaxedPoll()) != null) {
+            int cost = cost(packet);
+            if (coalesce && isMovement(packet)) {
+                ClientPacket next;
+                while ((next = packets.relaxedPeek()) != null && supersedes(next, packet)) {
+                    this.packets.relaxedPoll();
+                    this.queuedCost.addAndGet(-cost);
+                    coalesced++;
+                    packet = next;
+                    cost = cost(next);
+                }
+            }
+            this.queuedCost.addAndGet(-cost);
+            budget -= cost;
+            processed++;
+            processor.accept(packet);
+            if (System.nanoTime() - start >= TIME_BUDGET) break;
+        }
+        this.processedCount += processed;
+        this.coalescedCount += coalesced;
+        this.lastProcessTime = System.nanoTime() - start;
+    }
+
+    void clear() {
+        this.packets.clear();
+        this.queuedCost.set(0);
+    }
+
+    @NotNull Player.PacketQueueMetrics metrics() {
+        return new Player.PacketQueueMetrics(packets.size(), queuedCost.get(),
+                processedCount, coalescedCount, lastProcessTime);
+    }
+
+    static int cost(@NotNull ClientPacket packet) {
+        return COSTS.getInt(packet.getClass());
+    }
+
+    static boolean isMovement(@NotNull ClientPacket packet) {
+        return packet instanceof ClientPlayerPacket || packet instanceof ClientPlayerPositionPacket ||
+                packet instanceof ClientPlayerRotationPacket || packet instanceof ClientPlayerPositionAndRotationPacket;
+    }
+
+    /**
+     * Gets if applying {@code next} right after {@code previous} makes {@code previous} useless.
+     */
+    static boolean supersedes(@NotNull ClientPacket next, @NotNull ClientPacket previous) {
+        if (next instanceof ClientPlayerPositionAndRotationPacket) {
+            return isMovement(previous);
+        } else if (next instanceof ClientPlayerPositionPacket) {
+            return previous instanceof ClientPlayerPositionPacket || previous instanceof ClientPlayerPacket;
+        } else if (next instanceof ClientPlayerRotationPacket) {
+            return previous instanceof ClientPlayerRotationPacket || previous instanceof ClientPlayerPacket;
+        } else if (next instanceof ClientPlayerPacket) {
+            return previous instanceof ClientPlayerPacket;
+        }
+        return false;
+    }
+}
@@ -3,11 +3,16 @@ package net.minestom.server.event;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.trait.RecursiveEvent;
+import net.minestom.server.utils.PropertyUtils;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -18,6 +23,10 @@ import java.util.function.Consumer;
 
 non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     static final Object GLOBAL_CHILD_LOCK = new Object();
+    /**
+     * Whether handles compile their node tree into a single method handle, only read when a handle is rebuilt.
+     */
+    static volatile boolean flattenHandles = PropertyUtils.getBoolean("minestom.event.flatten-handles", false);
 
     private final Map<Class, Handle<T>> handleMap = new ConcurrentHashMap<>();
     final Map<Class<? extends T>, ListenerEntry<T>> listenerMap = new ConcurrentHashMap<>();
@@ -307,9 +316,22 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
     @SuppressWarnings("unchecked")
     final class Handle<E extends Event> implements ListenerHandle<E> {
+        private static final VarHandle VERSION;
+        private static final VarHandle SNAPSHOT;
+
+        static {
+            try {
+                VERSION = MethodHandles.lookup().findVarHandle(Handle.class, "version", int.class);
+                SNAPSHOT = MethodHandles.lookup().findVarHandle(Handle.class, "snapshot", Snapshot.class);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
         private final Class<E> eventType;
-        private Consumer<E> listener = null;
-        private volatile boolean updated;
+        // Incremented on each invalidation, a snapshot is only valid if it has been compiled for the current version
+        private volatile int version;
+        private volatile Snapshot<E> snapshot = new Snapshot<>(-1, null, null);
 
         Handle(Class<E> eventType) {
             this.eventType = eventType;
@@ -332,18 +354,37 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         }
 
         void invalidate() {
-            this.updated = false;
+            VERSION.getAndAdd(this, 1);
         }
 
+        /**
+         * Retrieves the compiled listener, rebuilding it if the node tree changed since the last compilation.
+         * <p>
+         * Never locks, concurrent rebuilds may happen but only the most recent one is kept.
+         */
         @Nullable Consumer<E> updatedListener() {
-            if (updated) return listener;
-            synchronized (GLOBAL_CHILD_LOCK) {
-                if (updated) return listener;
-                final Consumer<E> listener = createConsumer();
-                this.listener = listener;
-                this.updated = true;
-                return listener;
+            return updatedSnapshot().listener;
+        }
+
+        private @NotNull Snapshot<E> updatedSnapshot() {
+            final Snapshot<E> snapshot = this.snapshot;
+            final int version = this.version;
+            if (snapshot.version == version) return snapshot;
+            // Children handles are only rebuilt if they have been invalidated themselves
+            final Snapshot<E> updated;
+            if (flattenHandles) {
+                final MethodHandle tree = createTree();
+                updated = new Snapshot<>(version, tree != null ? HandleTree.toConsumer(tree) : null, tree);
+            } else {
+                updated = new Snapshot<>(version, createConsumer(), null);
+            }
+            Snapshot<E> current = snapshot;
+            while (current.version - version < 0) {
+                final Snapshot<E> witness = (Snapshot<E>) SNAPSHOT.compareAndExchange(this, current, updated);
+                if (witness == current) break;
+                current = witness;
             }
+            return updated;
         }
 
         private @Nullable Consumer<E> createConsumer() {
@@ -401,6 +442,42 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             };
         }
 
+        /**
+         * Create a single method handle running the listeners of this node and its children,
+         * children trees are taken from their own snapshot.
+         */
+        private @Nullable MethodHandle createTree() {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            List<MethodHandle> operations = new ArrayList<>();
+            // Standalone listeners
+            forTargetEvents(eventType, type -> {
+                final ListenerEntry<E> entry = node.listenerMap.get(type);
+                if (entry == null) return;
+                for (EventListener<E> listener : entry.listeners) {
+                    operations.add(HandleTree.listener(this, listener));
+                }
+                for (Consumer<E> binding : entry.bindingConsumers) {
+                    operations.add(HandleTree.consumer(binding));
+                }
+            });
+            // Mapped
+            final Consumer<E> mappedListener = mappedConsumer();
+            if (mappedListener != null) operations.add(HandleTree.consumer(mappedListener));
+            // Children
+            node.children.stream()
+                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
+                    .sorted(Comparator.comparing(EventNode::getPriority))
+                    .map(child -> ((Handle<E>) child.getHandle(eventType)).updatedSnapshot().tree)
+                    .filter(Objects::nonNull)
+                    .forEach(operations::add);
+            if (operations.isEmpty()) {
+                // No listener
+                return null;
+            }
+            final MethodHandle tree = HandleTree.sequence(operations);
+            return node.predicate != null ? HandleTree.guard(node, tree) : tree;
+        }
+
         /**
          * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
          * {@link EventNode#register(EventBinding)}.
@@ -481,12 +558,96 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         }
 
         void callListener(@NotNull EventListener<E> listener, E event) {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
             EventListener.Result result = listener.run(event);
-            if (result == EventListener.Result.EXPIRED) {
-                node.removeListener(listener);
-                invalidate();
+            if (result == EventListener.Result.EXPIRED) expire(listener);
+        }
+
+        void expire(@NotNull EventListener<E> listener) {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            node.removeListener(listener);
+            invalidate();
+        }
+    }
+
+    /**
+     * Immutable compiled dispatch state of a {@link Handle}, replaced atomically after each rebuild.
+     */
+    private record Snapshot<E>(int version, @Nullable Consumer<E> listener, @Nullable MethodHandle tree) {
+    }
+
+    /**
+     * Method handle combinators compiling a whole node tree into a single {@link MethodHandle} of type {@code (Event)void}.
+     * <p>
+     * Listeners and bindings are bound as constants, operations are chained with
+     * {@link MethodHandles#foldArguments(MethodHandle, MethodHandle)} and predicates become
+     * {@link MethodHandles#guardWithTest(MethodHandle, MethodHandle, MethodHandle)}.
+     * Once a tree is invoked often enough, the JVM customizes its lambda forms for that instance,
+     * letting the JIT inline the listeners through the whole chain.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final class HandleTree {
+        private static final MethodHandle NOOP = MethodHandles.empty(MethodType.methodType(void.class, Event.class));
+        private static final MethodHandle TEST;
+        private static final MethodHandle RUN;
+        private static final MethodHandle EXPIRE;
+        private static final MethodHandle ACCEPT;
+
+        static {
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.lookup();
+                TEST = lookup.findStatic(HandleTree.class, "test",
+                        MethodType.methodType(boolean.class, EventNodeImpl.class, Event.class));
+                RUN = lookup.findVirtual(EventListener.class, "run",
+                        MethodType.methodType(EventListener.Result.class, Event.class));
+                EXPIRE = lookup.findStatic(HandleTree.class, "expire",
+                        MethodType.methodType(void.class, EventNodeImpl.Handle.class, EventListener.class, EventListener.Result.class));
+                ACCEPT = lookup.findVirtual(Consumer.class, "accept", MethodType.methodType(void.class, Object.class))
+                        .asType(MethodType.methodType(void.class, Consumer.class, Event.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static @NotNull MethodHandle listener(@NotNull EventNodeImpl<?>.Handle<?> handle, @NotNull EventListener<?> listener) {
+            return MethodHandles.filterReturnValue(RUN.bindTo(listener),
+                    MethodHandles.insertArguments(EXPIRE, 0, handle, listener));
+        }
+
+        static @NotNull MethodHandle consumer(@NotNull Consumer<?> consumer) {
+            return ACCEPT.bindTo(consumer);
+        }
+
+        static @NotNull MethodHandle sequence(@NotNull List<MethodHandle> operations) {
+            MethodHandle tree = operations.get(operations.size() - 1);
+            for (int i = operations.size() - 2; i >= 0; i--) {
+                tree = MethodHandles.foldArguments(tree, operations.get(i));
             }
+            return tree;
+        }
+
+        static @NotNull MethodHandle guard(@NotNull EventNodeImpl<?> node, @NotNull MethodHandle tree) {
+            return MethodHandles.guardWithTest(TEST.bindTo(node), tree, NOOP);
+        }
+
+        static <E> @NotNull Consumer<E> toConsumer(@NotNull MethodHandle tree) {
+            return event -> {
+                try {
+                    tree.invokeExact((Event) event);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+            };
+        }
+
+        private static boolean test(EventNodeImpl node, Event event) {
+            final Object value = node.filter.getHandler(event);
+            return node.predicate.test(event, value);
+        }
+
+        private static void expire(EventNodeImpl.Handle handle, EventListener listener, EventListener.Result result) {
+            if (result == EventListener.Result.EXPIRED) handle.expire(listener);
         }
     }
 }
@@ -0,0 +1,57 @@
+package net.minestom.server.event.player;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.trait.CancellableEvent;
+import net.minestom.server.event.trait.PlayerEvent;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Listen to incoming play packets asynchronously, before they are decoded.
+ * <p>
+ * Called from the network thread, the payload is only valid during the event execution.
+ * Cancelling the event skips decoding entirely, and {@link PlayerPacketEvent} will not be called.
+ */
+@ApiStatus.Experimental
+public class PlayerRawPacketEvent implements PlayerEvent, CancellableEvent {
+    private final Player player;
+    private final int packetId;
+    private final ByteBuffer payload;
+    private boolean cancelled;
+
+    public PlayerRawPacketEvent(Player player, int packetId, ByteBuffer payload) {
+        this.player = player;
+        this.packetId = packetId;
+        this.payload = payload;
+    }
+
+    @Override
+    public @NotNull Player getPlayer() {
+        return player;
+    }
+
+    public int getPacketId() {
+        return packetId;
+    }
+
+    /**
+     * Gets a read-only view of the packet payload, excluding the packet id.
+     *
+     * @return the packet payload
+     */
+    public @NotNull ByteBuffer getPayload() {
+        return payload;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancel) {
+        this.cancelled = cancel;
+    }
+}
@@ -1,5 +1,8 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.IntCollection;
 import net.minestom.server.Tickable;
 import net.minestom.server.Viewable;
 import net.minestom.server.coordinate.Point;
@@ -8,13 +11,16 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.entity.pathfinding.PFColumnarSpace;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.UpdateLightPacket;
 import net.minestom.server.snapshot.Snapshotable;
 import net.minestom.server.tag.TagHandler;
 import net.minestom.server.tag.Taggable;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Set;
@@ -87,6 +93,34 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     @Override
     public abstract void setBlock(int x, int y, int z, @NotNull Block block);
 
+    /**
+     * Sets multiple blocks at once, the chunk caches are invalidated a single time.
+     * <p>
+     * Same safety rules as {@link #setBlock(int, int, int, Block)}.
+     *
+     * @param blocks the blocks to place, keys are computed using {@link ChunkUtils#getBlockIndex(int, int, int)}
+     */
+    @ApiStatus.Internal
+    public void setBlocks(@NotNull Int2ObjectMap<Block> blocks) {
+        for (Int2ObjectMap.Entry<Block> entry : Int2ObjectMaps.fastIterable(blocks)) {
+            final int index = entry.getIntKey();
+            setBlock(ChunkUtils.blockIndexToChunkPositionX(index),
+                    ChunkUtils.blockIndexToChunkPositionY(index),
+                    ChunkUtils.blockIndexToChunkPositionZ(index), entry.getValue());
+        }
+    }
+
+    /**
+     * Creates the light update of some sections, sent to the viewers after changing blocks without resending the chunk.
+     *
+     * @param sections the section coordinates to include
+     * @return the light update, null if the chunk does not send light
+     */
+    @ApiStatus.Internal
+    public @Nullable UpdateLightPacket createLightUpdate(@NotNull IntCollection sections) {
+        return null;
+    }
+
     public abstract @NotNull List<Section> getSections();
 
     public abstract @NotNull Section getSection(int section);
@@ -1,7 +1,12 @@
 package net.minestom.server.instance;
 
 import com.extollit.gaming.ai.path.model.ColumnarOcclusionFieldList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
@@ -9,6 +14,7 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.entity.pathfinding.PFBlock;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
@@ -38,6 +44,8 @@ import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordi
  * WARNING: not thread-safe.
  */
 public class DynamicChunk extends Chunk {
+    // Changes in a single section above which the whole palette is rewritten at once
+    private static final int DENSE_SECTION_CHANGES = 1024;
 
     private List<Section> sections;
 
@@ -71,8 +79,77 @@ public class DynamicChunk extends Chunk {
         Section section = getSectionAt(y);
         section.blockPalette()
                 .set(toSectionRelativeCoordinate(x), toSectionRelativeCoordinate(y), toSectionRelativeCoordinate(z), block.stateId());
+        updateEntries(ChunkUtils.getBlockIndex(x, y, z), block);
+    }
+
+    @Override
+    public void setBlocks(@NotNull Int2ObjectMap<Block> blocks) {
+        assertLock();
+        if (blocks.isEmpty()) return;
+        this.lastChange = System.currentTimeMillis();
+        this.chunkCache.invalidate();
+        this.lightCache.invalidate();
+        final ColumnarOcclusionFieldList occlusionFields = columnarSpace != null ? columnarSpace.occlusionFields() : null;
+        // (section -> changed block indexes)
+        Int2ObjectMap<IntList> sectionChanges = new Int2ObjectOpenHashMap<>();
+        for (Int2ObjectMap.Entry<Block> entry : Int2ObjectMaps.fastIterable(blocks)) {
+            final int index = entry.getIntKey();
+            final Block block = entry.getValue();
+            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+            if (occlusionFields != null) occlusionFields.onBlockChanged(x, y, z, PFBlock.get(block), 0);
+            sectionChanges.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), k -> new IntArrayList()).add(index);
+            updateEntries(index, block);
+        }
+        for (Int2ObjectMap.Entry<IntList> entry : Int2ObjectMaps.fastIterable(sectionChanges)) {
+            final Palette palette = getSection(entry.getIntKey()).blockPalette();
+            final IntList indexes = entry.getValue();
+            if (indexes.size() < DENSE_SECTION_CHANGES) {
+                for (int i = 0; i < indexes.size(); i++) {
+                    final int index = indexes.getInt(i);
+                    palette.set(ChunkUtils.blockIndexToChunkPositionX(index),
+                            toSectionRelativeCoordinate(ChunkUtils.blockIndexToChunkPositionY(index)),
+                            ChunkUtils.blockIndexToChunkPositionZ(index), blocks.get(index).stateId());
+                }
+            } else {
+                setSectionBlocks(palette, indexes, blocks);
+            }
+        }
+    }
+
+    /**
+     * Rewrites a section palette in a single operation, used when a large part of the section changes.
+     */
+    private static void setSectionBlocks(@NotNull Palette palette, @NotNull IntList indexes,
+                                         @NotNull Int2ObjectMap<Block> blocks) {
+        // Ordered by y, then z, then x
+        final int[] values = new int[palette.maxSize()];
+        if (indexes.size() < values.length) {
+            palette.getAll((x, y, z, value) -> values[y << 8 | z << 4 | x] = value);
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            final int index = indexes.getInt(i);
+            final int y = toSectionRelativeCoordinate(ChunkUtils.blockIndexToChunkPositionY(index));
+            values[y << 8 | ChunkUtils.blockIndexToChunkPositionZ(index) << 4 | ChunkUtils.blockIndexToChunkPositionX(index)] =
+                    blocks.get(index).stateId();
+        }
+        final int first = values[0];
+        boolean uniform = true;
+        for (int value : values) {
+            if (value != first) {
+                uniform = false;
+                break;
+            }
+        }
+        if (uniform) {
+            palette.fill(first);
+        } else {
+            palette.setAll(values);
+        }
+    }
 
-        final int index = ChunkUtils.getBlockIndex(x, y, z);
+    private void updateEntries(int index, @NotNull Block block) {
         // Handler
         final BlockHandler handler = block.handler();
         if (handler != null || block.hasNbt() || block.registry().isBlockEntity()) {
@@ -216,7 +293,20 @@ public class DynamicChunk extends Chunk {
         return new UpdateLightPacket(chunkX, chunkZ, createLightData());
     }
 
+    @Override
+    public synchronized @NotNull UpdateLightPacket createLightUpdate(@NotNull IntCollection sections) {
+        return new UpdateLightPacket(chunkX, chunkZ, createLightData(sections));
+    }
+
     private LightData createLightData() {
+        return createLightData(null);
+    }
+
+    /**
+     * @param includedSections the section coordinates to include, null for all of them,
+     *                         sections absent from both masks are left unchanged by the client
+     */
+    private LightData createLightData(@Nullable IntCollection includedSections) {
         BitSet skyMask = new BitSet();
         BitSet blockMask = new BitSet();
         BitSet emptySkyMask = new BitSet();
@@ -227,6 +317,7 @@ public class DynamicChunk extends Chunk {
         int index = 0;
         for (Section section : sections) {
             index++;
+            if (includedSections != null && !includedSections.contains(minSection + index - 1)) continue;
             final byte[] skyLight = section.getSkyLight();
             final byte[] blockLight = section.getBlockLight();
             if (skyLight.length != 0) {
@@ -435,6 +435,16 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         this.timeUpdate = timeUpdate;
     }
 
+    /**
+     * Sends the block changes buffered since the last call to the chunk viewers.
+     * <p>
+     * Changes of a same chunk section are grouped in a single packet, called at the end of each tick.
+     */
+    @ApiStatus.Internal
+    public void flushBlockChanges() {
+        // Empty
+    }
+
     /**
      * Creates a {@link TimeUpdatePacket} with the current age and time of this instance
      *
@@ -1,6 +1,12 @@
 package net.minestom.server.instance;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
@@ -19,6 +25,7 @@ import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.async.AsyncUtils;
@@ -63,6 +70,9 @@ public class InstanceContainer extends Instance {
 
     private final Lock changingBlockLock = new ReentrantLock();
     private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
+    // (section position -> changes) map, sent to the viewers at the end of the tick
+    // guarded by the instance monitor
+    private final Long2ObjectMap<SectionChanges> pendingBlockChanges = new Long2ObjectLinkedOpenHashMap<>();
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private IChunkLoader chunkLoader;
@@ -140,13 +150,24 @@ public class InstanceContainer extends Instance {
             // Refresh neighbors since a new block has been placed
             executeNeighboursBlockPlacementRule(blockPosition);
 
-            // Refresh player chunk block
+            // Refresh player chunk block, sent in #flushBlockChanges
             {
-                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
+                final long sectionPosition = sectionPosition(chunk.getChunkX(), getChunkCoordinate(y), chunk.getChunkZ());
+                SectionChanges changes = pendingBlockChanges.get(sectionPosition);
+                if (changes == null || changes.chunk != chunk) {
+                    // The chunk may have been unloaded and reloaded since the last change
+                    changes = new SectionChanges(chunk, getChunkCoordinate(y));
+                    this.pendingBlockChanges.put(sectionPosition, changes);
+                }
+                final short index = sectionLocalIndex(x, y, z);
+                changes.blocks.put(index, block.stateId());
                 var registry = block.registry();
                 if (registry.isBlockEntity()) {
                     final NBTCompound data = BlockUtils.extractClientNbt(block);
-                    chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
+                    changes.blockEntities.put(index, new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
+                } else {
+                    // The previous block entity has been replaced
+                    changes.blockEntities.remove(index);
                 }
             }
 
@@ -218,6 +239,36 @@ public class InstanceContainer extends Instance {
         return loadOrRetrieve(chunkX, chunkZ, () -> hasEnabledAutoChunkLoad() ? retrieveChunk(chunkX, chunkZ) : AsyncUtils.empty());
     }
 
+    @Override
+    public synchronized void flushBlockChanges() {
+        if (pendingBlockChanges.isEmpty()) return;
+        for (SectionChanges changes : pendingBlockChanges.values()) {
+            final Chunk chunk = changes.chunk;
+            if (!isLoaded(chunk)) continue;
+            final Short2IntLinkedOpenHashMap blocks = changes.blocks;
+            if (blocks.size() == 1) {
+                final short index = blocks.firstShortKey();
+                final int x = chunk.getChunkX() * Chunk.CHUNK_SIZE_X + ((index >> 8) & 0xF);
+                final int y = changes.section * Chunk.CHUNK_SECTION_SIZE + (index & 0xF);
+                final int z = chunk.getChunkZ() * Chunk.CHUNK_SIZE_Z + ((index >> 4) & 0xF);
+                chunk.sendPacketToViewers(new BlockChangePacket(new Vec(x, y, z), blocks.getInt(index)));
+            } else {
+                long[] entries = new long[blocks.size()];
+                int i = 0;
+                for (Short2IntMap.Entry entry : blocks.short2IntEntrySet()) {
+                    entries[i++] = ((long) entry.getIntValue() << 12) | entry.getShortKey();
+                }
+                chunk.sendPacketToViewers(new MultiBlockChangePacket(chunk.getChunkX(), changes.section,
+                        chunk.getChunkZ(), false, entries));
+            }
+            // Block entities must be updated after the block has been changed client-side
+            for (BlockEntityDataPacket packet : changes.blockEntities.values()) {
+                chunk.sendPacketToViewers(packet);
+            }
+        }
+        this.pendingBlockChanges.clear();
+    }
+
     @Override
     public synchronized void unloadChunk(@NotNull Chunk chunk) {
         if (!isLoaded(chunk)) return;
@@ -487,7 +538,10 @@ public class InstanceContainer extends Instance {
         for (Chunk chunk : chunks.values()) {
             final int chunkX = chunk.getChunkX();
             final int chunkZ = chunk.getChunkZ();
-            final Chunk copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+            final Chunk copiedChunk;
+            synchronized (chunk) {
+                copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+            }
             copiedInstance.cacheChunk(copiedChunk);
         }
         return copiedInstance;
@@ -635,4 +689,26 @@ public class InstanceContainer extends Instance {
         var dispatcher = MinecraftServer.process().dispatcher();
         dispatcher.createPartition(chunk);
     }
+
+    private static long sectionPosition(int chunkX, int section, int chunkZ) {
+        return ((long) (chunkX & 0x3FFFFF) << 42) | (section & 0xFFFFF) | ((long) (chunkZ & 0x3FFFFF) << 20);
+    }
+
+    private static short sectionLocalIndex(int x, int y, int z) {
+        return (short) ((x & 0xF) << 8 | (z & 0xF) << 4 | (y & 0xF));
+    }
+
+    private static final class SectionChanges {
+        private final Chunk chunk;
+        private final int section;
+        // (local index -> block state) in change order, only the last change of a block is kept
+        private final Short2IntLinkedOpenHashMap blocks = new Short2IntLinkedOpenHashMap();
+        // (local index -> block entity data) of the blocks which are still block entities after their last change
+        private final Short2ObjectMap<BlockEntityDataPacket> blockEntities = new Short2ObjectLinkedOpenHashMap<>();
+
+        private SectionChanges(Chunk chunk, int section) {
+            this.chunk = chunk;
+            this.section = section;
+        }
+    }
 }
@@ -33,6 +33,13 @@ public final class Section implements NetworkBuffer.Writer {
         return biomePalette;
     }
 
+    /**
+     * Gets the sky light of this section.
+     * <p>
+     * The array may be shared with copies of this section and must not be modified, use {@link #setSkyLight(byte[])}.
+     *
+     * @return the sky light array
+     */
     public byte[] getSkyLight() {
         return skyLight;
     }
@@ -41,6 +48,13 @@ public final class Section implements NetworkBuffer.Writer {
         this.skyLight = skyLight;
     }
 
+    /**
+     * Gets the block light of this section.
+     * <p>
+     * The array may be shared with copies of this section and must not be modified, use {@link #setBlockLight(byte[])}.
+     *
+     * @return the block light array
+     */
     public byte[] getBlockLight() {
         return blockLight;
     }
@@ -56,10 +70,17 @@ public final class Section implements NetworkBuffer.Writer {
         this.blockLight = new byte[0];
     }
 
+    /**
+     * Copies this section.
+     * <p>
+     * Palettes are copied on write and light arrays are replaced rather than modified,
+     * making the copy cheap until either section is modified.
+     *
+     * @return a copy of this section
+     */
     @Override
     public @NotNull Section clone() {
-        return new Section(blockPalette.clone(), biomePalette.clone(),
-                skyLight.clone(), blockLight.clone());
+        return new Section(blockPalette.clone(), biomePalette.clone(), skyLight, blockLight);
     }
 
     @Override
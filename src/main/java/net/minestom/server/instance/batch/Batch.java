@@ -28,7 +28,13 @@ import java.util.concurrent.ForkJoinPool;
  */
 public interface Batch<C> extends Block.Setter {
 
-    ExecutorService BLOCK_BATCH_POOL = ForkJoinPool.commonPool();
+    ExecutorService BLOCK_BATCH_POOL = new ForkJoinPool(
+            Integer.getInteger("minestom.batch.threads", Runtime.getRuntime().availableProcessors()), pool -> {
+        var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Ms-BlockBatch-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }, null, true);
 
     /**
      * Gets if the batch is ready to be applied to an instance.
@@ -1,13 +1,21 @@
 package net.minestom.server.instance.batch;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.IntArraySet;
-import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceContainer;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.network.packet.server.play.UpdateLightPacket;
+import net.minestom.server.utils.block.BlockUtils;
 import net.minestom.server.utils.callback.OptionalCallback;
 import net.minestom.server.utils.chunk.ChunkCallback;
 import net.minestom.server.utils.chunk.ChunkUtils;
@@ -16,6 +24,8 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 /**
@@ -33,6 +43,8 @@ import java.util.concurrent.CountDownLatch;
 public class ChunkBatch implements Batch<ChunkCallback> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChunkBatch.class);
+    // Above this number of changes, resending the chunk is cheaper than section updates
+    private static final int CHUNK_RESEND_THRESHOLD = Integer.getInteger("minestom.batch.chunk-resend-threshold", 8192);
 
     private final Int2ObjectMap<Block> blocks = new Int2ObjectOpenHashMap<>();
     // Available for other implementations to handle.
@@ -169,62 +181,105 @@ public class ChunkBatch implements Batch<ChunkCallback> {
                 return;
             }
 
-            if (this.options.isFullChunk()) {
-                // Clear the chunk
-                chunk.reset();
-            }
+            final List<ServerPacket> packets;
+            synchronized (chunk) {
+                if (this.options.isFullChunk()) {
+                    // Clear the chunk
+                    chunk.reset();
+                }
 
-            if (blocks.isEmpty()) {
-                // Nothing to flush
-                OptionalCallback.execute(callback, chunk);
-                return;
-            }
+                if (blocks.isEmpty()) {
+                    // Nothing to flush
+                    OptionalCallback.execute(callback, chunk);
+                    return;
+                }
 
-            final IntSet sections = new IntArraySet();
-            synchronized (blocks) {
-                for (var entry : blocks.int2ObjectEntrySet()) {
-                    final int position = entry.getIntKey();
-                    final Block block = entry.getValue();
-                    final int section = apply(chunk, position, block, inverse);
-                    sections.add(section);
+                synchronized (blocks) {
+                    if (inverse != null) {
+                        for (var entry : Int2ObjectMaps.fastIterable(blocks)) {
+                            final int index = entry.getIntKey();
+                            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+                            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+                            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+                            inverse.setBlock(x, y, z, chunk.getBlock(x, y, z));
+                        }
+                    }
+                    chunk.setBlocks(blocks);
+                    packets = options.shouldSendUpdate() && !options.isFullChunk() &&
+                            blocks.size() <= CHUNK_RESEND_THRESHOLD ? createUpdatePackets(chunk) : null;
                 }
             }
 
             if (inverse != null) inverse.readyLatch.countDown();
-            updateChunk(instance, chunk, sections, callback, safeCallback);
+            updateChunk(instance, chunk, packets, callback, safeCallback);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
     /**
-     * Applies a single block change given a chunk and a value in the described format.
+     * Creates the packets sending the changes of this batch section by section, followed by their light.
      *
-     * @param chunk The chunk to apply the change
-     * @param index the block position computed using {@link ChunkUtils#getBlockIndex(int, int, int)}
-     * @param block the block to place
-     * @return The chunk section which the block was placed
+     * @param chunk the chunk where the batch has been applied
+     * @return the packets to send to the chunk viewers
      */
-    private int apply(@NotNull Chunk chunk, int index, Block block, @Nullable ChunkBatch inverse) {
-        final int x = ChunkUtils.blockIndexToChunkPositionX(index);
-        final int y = ChunkUtils.blockIndexToChunkPositionY(index);
-        final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
-        if (inverse != null) {
-            Block prevBlock = chunk.getBlock(x, y, z);
-            inverse.setBlock(x, y, z, prevBlock);
+    private @NotNull List<ServerPacket> createUpdatePackets(@NotNull Chunk chunk) {
+        final int chunkX = chunk.getChunkX();
+        final int chunkZ = chunk.getChunkZ();
+        // (section -> encoded changes)
+        Int2ObjectMap<LongList> sections = new Int2ObjectOpenHashMap<>();
+        List<ServerPacket> blockEntities = new ArrayList<>();
+        for (var entry : Int2ObjectMaps.fastIterable(blocks)) {
+            final int index = entry.getIntKey();
+            final Block block = entry.getValue();
+            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+            sections.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), k -> new LongArrayList())
+                    .add((long) block.stateId() << 12 | x << 8 | z << 4 | (y & 0xF));
+            var registry = block.registry();
+            if (registry.isBlockEntity()) {
+                final Vec position = new Vec(chunkX * Chunk.CHUNK_SIZE_X + x, y, chunkZ * Chunk.CHUNK_SIZE_Z + z);
+                blockEntities.add(new BlockEntityDataPacket(position, registry.blockEntityId(),
+                        BlockUtils.extractClientNbt(block)));
+            }
         }
-        chunk.setBlock(x, y, z, block);
-        return ChunkUtils.getChunkCoordinate(y);
+        List<ServerPacket> packets = new ArrayList<>(sections.size() + blockEntities.size());
+        for (var entry : Int2ObjectMaps.fastIterable(sections)) {
+            final int section = entry.getIntKey();
+            final LongList changes = entry.getValue();
+            if (changes.size() == 1) {
+                final long change = changes.getLong(0);
+                final Vec position = new Vec(chunkX * Chunk.CHUNK_SIZE_X + (int) (change >> 8 & 0xF),
+                        section * Chunk.CHUNK_SECTION_SIZE + (int) (change & 0xF),
+                        chunkZ * Chunk.CHUNK_SIZE_Z + (int) (change >> 4 & 0xF));
+                packets.add(new BlockChangePacket(position, (int) (change >>> 12)));
+            } else {
+                packets.add(new MultiBlockChangePacket(chunkX, section, chunkZ, false, changes.toLongArray()));
+            }
+        }
+        // Light of the changed sections, not part of the block updates
+        final UpdateLightPacket lightPacket = chunk.createLightUpdate(sections.keySet());
+        if (lightPacket != null) packets.add(lightPacket);
+        // Block entities must be updated after the block has been changed client-side
+        packets.addAll(blockEntities);
+        return packets;
     }
 
     /**
      * Updates the given chunk for all of its viewers, and executes the callback.
+     *
+     * @param packets the section updates, null to resend the whole chunk
      */
-    private void updateChunk(@NotNull Instance instance, Chunk chunk, IntSet updatedSections, @Nullable ChunkCallback callback, boolean safeCallback) {
+    private void updateChunk(@NotNull Instance instance, Chunk chunk, @Nullable List<ServerPacket> packets,
+                             @Nullable ChunkCallback callback, boolean safeCallback) {
         // Refresh chunk for viewers
         if (options.shouldSendUpdate()) {
-            // TODO update all sections from `updatedSections`
-            chunk.sendChunk();
+            if (packets != null) {
+                for (ServerPacket packet : packets) chunk.sendPacketToViewers(packet);
+            } else {
+                chunk.sendChunk();
+            }
         }
 
         if (instance instanceof InstanceContainer) {
@@ -240,4 +295,4 @@ public class ChunkBatch implements Batch<ChunkCallback> {
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -54,6 +54,21 @@ final class AdaptivePalette implements Palette, Cloneable {
         this.palette = new FilledPalette(dimension, value);
     }
 
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        final int dimension = this.dimension;
+        if (minX < 0 || minY < 0 || minZ < 0 || maxX > dimension || maxY > dimension || maxZ > dimension) {
+            throw new IllegalArgumentException("Region must be contained in the palette");
+        }
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        if (minX == 0 && minY == 0 && minZ == 0 && maxX == dimension && maxY == dimension && maxZ == dimension) {
+            fill(value);
+            return;
+        }
+        if (palette instanceof FilledPalette filledPalette && filledPalette.value() == value) return;
+        flexiblePalette().fill(minX, minY, minZ, maxX, maxY, maxZ, value);
+    }
+
     @Override
     public void setAll(@NotNull EntrySupplier supplier) {
         SpecializedPalette newPalette = new FlexiblePalette(this);
@@ -61,6 +76,32 @@ final class AdaptivePalette implements Palette, Cloneable {
         this.palette = newPalette;
     }
 
+    @Override
+    public void setAll(int @NotNull [] values) {
+        if (values.length != maxSize()) {
+            throw new IllegalArgumentException("Expected " + maxSize() + " values, got " + values.length);
+        }
+        SpecializedPalette newPalette = new FlexiblePalette(this);
+        newPalette.setAll(values);
+        this.palette = newPalette;
+    }
+
+    @Override
+    public void copyFrom(@NotNull Palette source) {
+        if (source.dimension() != dimension) {
+            throw new IllegalArgumentException("Palette dimensions must match");
+        }
+        if (source instanceof AdaptivePalette adaptivePalette && adaptivePalette.maxBitsPerEntry == maxBitsPerEntry) {
+            final SpecializedPalette sourcePalette = adaptivePalette.palette;
+            if (sourcePalette instanceof FlexiblePalette flexiblePalette) flexiblePalette.shared = true;
+            this.palette = sourcePalette;
+            return;
+        }
+        SpecializedPalette newPalette = new FlexiblePalette(this);
+        newPalette.copyFrom(source);
+        this.palette = newPalette;
+    }
+
     @Override
     public void replace(int x, int y, int z, @NotNull IntUnaryOperator operator) {
         if (x < 0 || y < 0 || z < 0) {
@@ -98,7 +139,8 @@ final class AdaptivePalette implements Palette, Cloneable {
     public @NotNull Palette clone() {
         try {
             AdaptivePalette adaptivePalette = (AdaptivePalette) super.clone();
-            adaptivePalette.palette = palette.clone();
+            // The storage is shared, and copied by the first palette writing to it
+            if (palette instanceof FlexiblePalette flexiblePalette) flexiblePalette.shared = true;
             return adaptivePalette;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException(e);
@@ -128,6 +170,7 @@ final class AdaptivePalette implements Palette, Cloneable {
                     return new FilledPalette(dimension, entries.iterator().nextInt());
                 } else if (currentBitsPerEntry > defaultBitsPerEntry &&
                         (bitsPerEntry = MathUtils.bitsToRepresent(entries.size() - 1)) < currentBitsPerEntry) {
+                    if (flexiblePalette.shared) flexiblePalette = new FlexiblePalette(this, flexiblePalette);
                     flexiblePalette.resize((byte) bitsPerEntry);
                     return flexiblePalette;
                 }
@@ -142,6 +185,10 @@ final class AdaptivePalette implements Palette, Cloneable {
             currentPalette = new FlexiblePalette(this);
             currentPalette.fill(filledPalette.value());
             this.palette = currentPalette;
+        } else if (currentPalette instanceof FlexiblePalette flexiblePalette && flexiblePalette.shared) {
+            // Copy on write
+            currentPalette = new FlexiblePalette(this, flexiblePalette);
+            this.palette = currentPalette;
         }
         return currentPalette;
     }
@@ -18,6 +18,7 @@ import static net.minestom.server.network.NetworkBuffer.*;
  */
 final class FlexiblePalette implements SpecializedPalette, Cloneable {
     private static final ThreadLocal<int[]> WRITE_CACHE = ThreadLocal.withInitial(() -> new int[4096]);
+    private static final ThreadLocal<int[]> VALUES_CACHE = ThreadLocal.withInitial(() -> new int[4096]);
 
     // Specific to this palette type
     private final AdaptivePalette adaptivePalette;
@@ -25,6 +26,8 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     private int count;
 
     private long[] values;
+    // Whether this palette is referenced by multiple adaptive palettes, which must then copy it before writing
+    volatile boolean shared;
     // palette index = value
     IntArrayList paletteToValueList;
     // value = palette index
@@ -49,6 +52,15 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         this(adaptivePalette, adaptivePalette.defaultBitsPerEntry);
     }
 
+    FlexiblePalette(AdaptivePalette adaptivePalette, FlexiblePalette source) {
+        this.adaptivePalette = adaptivePalette;
+        this.bitsPerEntry = source.bitsPerEntry;
+        this.count = source.count;
+        this.values = source.values.clone();
+        this.paletteToValueList = source.paletteToValueList.clone();
+        this.valueToPaletteMap = source.valueToPaletteMap.clone();
+    }
+
     @Override
     public int get(int x, int y, int z) {
         final int bitsPerEntry = this.bitsPerEntry;
@@ -109,43 +121,101 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         this.count = maxSize();
     }
 
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        // Resize before writing anything
+        value = getPaletteIndex(value);
+        final int bitsPerEntry = this.bitsPerEntry;
+        final long[] values = this.values;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long clear = (1L << bitsPerEntry) - 1L;
+        final int dimensionBitCount = MathUtils.bitsToRepresent(dimension() - 1);
+        int count = this.count;
+        for (int y = minY; y < maxY; y++) {
+            for (int z = minZ; z < maxZ; z++) {
+                final int rowIndex = y << (dimensionBitCount << 1) | z << dimensionBitCount;
+                for (int x = minX; x < maxX; x++) {
+                    final int sectionIndex = rowIndex | x;
+                    final int index = sectionIndex / valuesPerLong;
+                    final int bitIndex = (sectionIndex - index * valuesPerLong) * bitsPerEntry;
+                    final long block = values[index];
+                    final boolean currentAir = (block >> bitIndex & clear) == 0;
+                    values[index] = block & ~(clear << bitIndex) | ((long) value << bitIndex);
+                    if (currentAir != (value == 0)) count += currentAir ? 1 : -1;
+                }
+            }
+        }
+        this.count = count;
+    }
+
     @Override
     public void setAll(@NotNull EntrySupplier supplier) {
-        int[] cache = WRITE_CACHE.get();
+        int[] cache = VALUES_CACHE.get();
         final int dimension = dimension();
-        // Fill cache with values
-        int fillValue = -1;
-        int count = 0;
         int index = 0;
         for (int y = 0; y < dimension; y++) {
             for (int z = 0; z < dimension; z++) {
                 for (int x = 0; x < dimension; x++) {
-                    int value = supplier.get(x, y, z);
-                    // Support for fill fast exit if the supplier returns a constant value
-                    if (fillValue != -2) {
-                        if (fillValue == -1) {
-                            fillValue = value;
-                        } else if (fillValue != value) {
-                            fillValue = -2;
-                        }
-                    }
-                    // Set value in cache
-                    if (value != 0) {
-                        value = getPaletteIndex(value);
-                        count++;
-                    }
-                    cache[index++] = value;
+                    cache[index++] = supplier.get(x, y, z);
                 }
             }
         }
         assert index == maxSize();
-        // Update palette content
-        if (fillValue < 0) {
-            updateAll(cache);
-            this.count = count;
-        } else {
-            fill(fillValue);
+        setAll(cache);
+    }
+
+    @Override
+    public void setAll(int @NotNull [] values) {
+        final int size = maxSize();
+        int[] cache = WRITE_CACHE.get();
+        // Build the whole palette first, the bits per entry are then only computed once
+        IntArrayList paletteToValueList = new IntArrayList(8);
+        paletteToValueList.add(0);
+        Int2IntOpenHashMap valueToPaletteMap = new Int2IntOpenHashMap(8);
+        valueToPaletteMap.put(0, 0);
+        valueToPaletteMap.defaultReturnValue(-1);
+        int count = 0;
+        int lastValue = 0, lastIndex = 0;
+        for (int i = 0; i < size; i++) {
+            final int value = values[i];
+            if (value != lastValue) {
+                // Consecutive entries are often identical
+                lastIndex = valueToPaletteMap.putIfAbsent(value, paletteToValueList.size());
+                if (lastIndex == -1) {
+                    lastIndex = paletteToValueList.size();
+                    paletteToValueList.add(value);
+                }
+                lastValue = value;
+            }
+            if (value != 0) count++;
+            cache[i] = lastIndex;
+        }
+        final int paletteSize = paletteToValueList.size();
+        byte bitsPerEntry = paletteSize > 1 ?
+                (byte) Math.max(adaptivePalette.defaultBitsPerEntry, MathUtils.bitsToRepresent(paletteSize - 1)) :
+                adaptivePalette.defaultBitsPerEntry;
+        int[] entries = cache;
+        if (bitsPerEntry > maxBitsPerEntry()) {
+            // Direct palette
+            bitsPerEntry = 15;
+            entries = values;
         }
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int length = (size + valuesPerLong - 1) / valuesPerLong;
+        if (this.values.length != length) this.values = new long[length];
+        pack(this.values, entries, size, bitsPerEntry);
+        this.bitsPerEntry = bitsPerEntry;
+        this.paletteToValueList = paletteToValueList;
+        this.valueToPaletteMap = valueToPaletteMap;
+        this.count = count;
+    }
+
+    @Override
+    public void copyFrom(@NotNull Palette source) {
+        int[] cache = VALUES_CACHE.get();
+        final int dimension = dimension();
+        source.getAll((x, y, z, value) -> cache[getSectionIndex(dimension, x, y, z)] = value);
+        setAll(cache);
     }
 
     @Override
@@ -157,20 +227,16 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
 
     @Override
     public void replaceAll(@NotNull EntryFunction function) {
-        int[] cache = WRITE_CACHE.get();
+        int[] cache = VALUES_CACHE.get();
         AtomicInteger arrayIndex = new AtomicInteger();
-        AtomicInteger count = new AtomicInteger();
         getAll((x, y, z, value) -> {
-            final int newValue = function.apply(x, y, z, value);
             final int index = arrayIndex.getPlain();
             arrayIndex.setPlain(index + 1);
-            cache[index] = newValue != value ? getPaletteIndex(newValue) : value;
-            if (newValue != 0) count.setPlain(count.getPlain() + 1);
+            cache[index] = function.apply(x, y, z, value);
         });
         assert arrayIndex.getPlain() == maxSize();
         // Update palette content
-        updateAll(cache);
-        this.count = count.getPlain();
+        setAll(cache);
     }
 
     @Override
@@ -201,6 +267,7 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
             palette.paletteToValueList = paletteToValueList.clone();
             palette.valueToPaletteMap = valueToPaletteMap.clone();
             palette.count = count;
+            palette.shared = false;
             return palette;
         } catch (CloneNotSupportedException e) {
             MinecraftServer.getExceptionManager().handleException(e);
@@ -247,22 +314,31 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         }
     }
 
-    private void updateAll(int[] paletteValues) {
-        final int size = maxSize();
-        assert paletteValues.length >= size;
-        final int bitsPerEntry = this.bitsPerEntry;
+    /**
+     * Packs {@code entries} into {@code values}, overriding their previous content.
+     * <p>
+     * Entries must already fit in {@code bitsPerEntry}, letting the loop skip masking.
+     */
+    private static void pack(long[] values, int[] entries, int size, int bitsPerEntry) {
+        assert entries.length >= size;
         final int valuesPerLong = 64 / bitsPerEntry;
-        final long clear = (1L << bitsPerEntry) - 1L;
-        final long[] values = this.values;
-        for (int i = 0; i < values.length; i++) {
-            long block = values[i];
-            final int startIndex = i * valuesPerLong;
-            final int endIndex = Math.min(startIndex + valuesPerLong, size);
-            for (int index = startIndex; index < endIndex; index++) {
-                final int bitIndex = (index - startIndex) * bitsPerEntry;
-                block = block & ~(clear << bitIndex) | ((long) paletteValues[index] << bitIndex);
+        final int fullLongs = size / valuesPerLong;
+        int index = 0;
+        for (int i = 0; i < fullLongs; i++) {
+            long block = 0;
+            for (int j = 0, bitIndex = 0; j < valuesPerLong; j++, bitIndex += bitsPerEntry) {
+                block |= (long) entries[index + j] << bitIndex;
             }
             values[i] = block;
+            index += valuesPerLong;
+        }
+        if (index < size) {
+            // Partially filled last long
+            long block = 0;
+            for (int bitIndex = 0; index < size; index++, bitIndex += bitsPerEntry) {
+                block |= (long) entries[index] << bitIndex;
+            }
+            values[fullLongs] = block;
         }
     }
 
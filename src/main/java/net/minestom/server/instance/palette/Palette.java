@@ -33,8 +33,40 @@ public interface Palette extends NetworkBuffer.Writer {
 
     void fill(int value);
 
+    /**
+     * Sets all the entries of a region to the same value.
+     *
+     * @param minX  the minimum x, inclusive
+     * @param minY  the minimum y, inclusive
+     * @param minZ  the minimum z, inclusive
+     * @param maxX  the maximum x, exclusive
+     * @param maxY  the maximum y, exclusive
+     * @param maxZ  the maximum z, exclusive
+     * @param value the value to set
+     * @throws IllegalArgumentException if the region is not contained in the palette
+     */
+    void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value);
+
     void setAll(@NotNull EntrySupplier supplier);
 
+    /**
+     * Replaces all the entries of this palette.
+     * <p>
+     * Values are ordered by y, then z, then x. The array is not modified nor kept.
+     *
+     * @param values the new values, must contain {@link #maxSize()} entries
+     * @throws IllegalArgumentException if the array length does not match the palette size
+     */
+    void setAll(int @NotNull [] values);
+
+    /**
+     * Replaces all the entries of this palette by the ones of {@code source}.
+     *
+     * @param source the palette to copy from
+     * @throws IllegalArgumentException if the palettes do not have the same dimension
+     */
+    void copyFrom(@NotNull Palette source);
+
     void replace(int x, int y, int z, @NotNull IntUnaryOperator operator);
 
     void replaceAll(@NotNull EntryFunction function);
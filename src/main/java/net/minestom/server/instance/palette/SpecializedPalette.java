@@ -29,11 +29,26 @@ interface SpecializedPalette extends Palette {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        default void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         default void setAll(@NotNull EntrySupplier supplier) {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        default void setAll(int @NotNull [] values) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default void copyFrom(@NotNull Palette source) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         default void replace(int x, int y, int z, @NotNull IntUnaryOperator operator) {
             throw new UnsupportedOperationException();
@@ -1,5 +1,8 @@
 package net.minestom.server.inventory;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.inventory.InventoryItemChangeEvent;
 import net.minestom.server.event.inventory.PlayerInventoryItemChangeEvent;
@@ -10,7 +13,9 @@ import net.minestom.server.tag.TagHandler;
 import net.minestom.server.tag.Taggable;
 import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
@@ -18,6 +23,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -27,9 +36,19 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
         permits Inventory, PlayerInventory {
 
     private static final VarHandle ITEM_UPDATER = MethodHandles.arrayElementVarHandle(ItemStack[].class);
+    // the transactions running on the current thread, linked to their parent
+    private static final ThreadLocal<Transaction> TRANSACTION = new ThreadLocal<>();
 
     private final int size;
     protected final ItemStack[] itemStacks;
+    // single slot writes are shared, only transaction commits are exclusive
+    private final StampedLock slotLock = new StampedLock();
+    private final AtomicInteger runningTransactions = new AtomicInteger();
+    // held by all writers of the slots filtered by #filterInsert, so that an item is filtered right before being applied
+    private final ReentrantLock insertLock = new ReentrantLock();
+    // the items last sent to the viewers, compared against when flushing updates
+    private final ItemStack[] syncedItems;
+    private volatile boolean updatePending;
 
     // list of conditions/callbacks assigned to this inventory
     protected final List<InventoryCondition> inventoryConditions = new CopyOnWriteArrayList<>();
@@ -42,6 +61,7 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
         this.size = size;
         this.itemStacks = new ItemStack[getSize()];
         Arrays.fill(itemStacks, ItemStack.AIR);
+        this.syncedItems = itemStacks.clone();
     }
 
     /**
@@ -50,7 +70,7 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
      * @param slot      the slot to set the item
      * @param itemStack the item to set
      */
-    public synchronized void setItemStack(int slot, @NotNull ItemStack itemStack) {
+    public void setItemStack(int slot, @NotNull ItemStack itemStack) {
         Check.argCondition(!MathUtils.isBetween(slot, 0, getSize()),
                 "Inventory does not have the slot " + slot);
         safeItemInsert(slot, itemStack);
@@ -67,47 +87,145 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
      * @throws IllegalArgumentException if the slot {@code slot} does not exist
      */
     protected final void safeItemInsert(int slot, @NotNull ItemStack itemStack, boolean sendPacket) {
-        ItemStack previous;
-        synchronized (this) {
-            Check.argCondition(
-                    !MathUtils.isBetween(slot, 0, getSize()),
-                    "The slot {0} does not exist in this inventory",
-                    slot
-            );
-            previous = itemStacks[slot];
-            if (itemStack.equals(previous)) return; // Avoid sending updates if the item has not changed
-            UNSAFE_itemInsert(slot, itemStack, sendPacket);
+        Check.argCondition(
+                !MathUtils.isBetween(slot, 0, getSize()),
+                "The slot {0} does not exist in this inventory",
+                slot
+        );
+        if (itemStack.equals(getItemStack(slot))) return; // Avoid sending updates if the item has not changed
+        final Transaction transaction = currentTransaction();
+        if (transaction != null) {
+            // Applied when the transaction commits
+            transaction.changes.put(slot, new Change(itemStack, sendPacket));
+            return;
         }
-        if (this instanceof PlayerInventory inv) {
-            EventDispatcher.call(new PlayerInventoryItemChangeEvent(inv.player, slot, previous, itemStack));
-        } else if (this instanceof Inventory inv) {
-            EventDispatcher.call(new InventoryItemChangeEvent(inv, slot, previous, itemStack));
+        final ItemStack previous;
+        if (isFiltered(slot)) {
+            this.insertLock.lock();
+            try {
+                itemStack = filterInsert(slot, itemStack);
+                previous = getAndSet(slot, itemStack);
+            } finally {
+                this.insertLock.unlock();
+            }
+        } else {
+            previous = getAndSet(slot, itemStack);
         }
+        if (itemStack.equals(previous)) return;
+        if (sendPacket) sendSlot(slot);
+        callChangeEvent(slot, previous, itemStack);
     }
 
     protected final void safeItemInsert(int slot, @NotNull ItemStack itemStack) {
         safeItemInsert(slot, itemStack, true);
     }
 
-    protected abstract void UNSAFE_itemInsert(int slot, @NotNull ItemStack itemStack, boolean sendPacket);
+    /**
+     * Gets if the items inserted in a slot go through {@link #filterInsert(int, ItemStack)}.
+     *
+     * @param slot the internal slot id
+     * @return true if the slot items are filtered
+     */
+    boolean isFiltered(int slot) {
+        return false;
+    }
 
-    public synchronized <T> @NotNull T processItemStack(@NotNull ItemStack itemStack,
-                                                        @NotNull TransactionType type,
-                                                        @NotNull TransactionOption<T> option) {
-        return option.fill(type, this, itemStack);
+    /**
+     * Called before an item is applied to a filtered slot, with the insert lock held
+     * so that the slot cannot be modified concurrently until the result is applied.
+     * <p>
+     * Called once per applied item, a transaction retry producing the same item reuses the previous result.
+     *
+     * @param slot      the internal slot id
+     * @param itemStack the item to insert
+     * @return the item to actually insert
+     */
+    @NotNull ItemStack filterInsert(int slot, @NotNull ItemStack itemStack) {
+        return itemStack;
     }
 
-    public synchronized <T> @NotNull List<@NotNull T> processItemStacks(@NotNull List<@NotNull ItemStack> itemStacks,
-                                                                        @NotNull TransactionType type,
-                                                                        @NotNull TransactionOption<T> option) {
-        List<T> result = new ArrayList<>(itemStacks.size());
-        itemStacks.forEach(itemStack -> {
-            T transactionResult = processItemStack(itemStack, type, option);
-            result.add(transactionResult);
-        });
+    private ItemStack getAndSet(int slot, @NotNull ItemStack itemStack) {
+        final long stamp = slotLock.readLock();
+        try {
+            return (ItemStack) ITEM_UPDATER.getAndSet(itemStacks, slot, itemStack);
+        } finally {
+            slotLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs {@code function} as a single transaction, the slots it changes are applied atomically once it returns.
+     * <p>
+     * Slot reads are tracked, if any read slot is modified concurrently the changes are discarded and {@code function}
+     * runs again. It must therefore not have side effects other than modifying this inventory.
+     * Packets and change events are sent once the changes are applied, without holding any lock.
+     * <p>
+     * Nested transactions on the same inventory are part of the outer one.
+     *
+     * @param function the function reading and modifying the inventory
+     * @param <T>      the transaction result type
+     * @return the result of the successful {@code function} run
+     */
+    @ApiStatus.Experimental
+    public <T> T transaction(@NotNull Function<@NotNull AbstractInventory, T> function) {
+        if (currentTransaction() != null) return function.apply(this);
+        final Transaction parent = TRANSACTION.get();
+        final Transaction transaction = new Transaction(this, parent);
+        TRANSACTION.set(transaction);
+        this.runningTransactions.incrementAndGet();
+        boolean locked = false;
+        T result;
+        try {
+            while (true) {
+                result = function.apply(this);
+                if (!locked && transaction.writesFiltered()) {
+                    // Run again with the filtered slots locked, so that their items are only filtered once
+                    this.insertLock.lock();
+                    locked = true;
+                } else {
+                    if (locked) transaction.filter();
+                    if (transaction.commit()) break;
+                    Thread.onSpinWait();
+                }
+                transaction.reads.clear();
+                transaction.changes.clear();
+            }
+        } finally {
+            if (locked) this.insertLock.unlock();
+            this.runningTransactions.decrementAndGet();
+            if (parent != null) TRANSACTION.set(parent);
+            else TRANSACTION.remove();
+        }
+        // Notify outside the lock
+        for (Int2ObjectMap.Entry<Change> entry : transaction.changes.int2ObjectEntrySet()) {
+            final int slot = entry.getIntKey();
+            final Change change = entry.getValue();
+            if (change.itemStack.equals(change.previous)) continue;
+            if (change.sendPacket) sendSlot(slot);
+            callChangeEvent(slot, change.previous, change.itemStack);
+        }
         return result;
     }
 
+    public <T> @NotNull T processItemStack(@NotNull ItemStack itemStack,
+                                           @NotNull TransactionType type,
+                                           @NotNull TransactionOption<T> option) {
+        return transaction(inventory -> option.fill(type, inventory, itemStack));
+    }
+
+    public <T> @NotNull List<@NotNull T> processItemStacks(@NotNull List<@NotNull ItemStack> itemStacks,
+                                                           @NotNull TransactionType type,
+                                                           @NotNull TransactionOption<T> option) {
+        return transaction(inventory -> {
+            List<T> result = new ArrayList<>(itemStacks.size());
+            itemStacks.forEach(itemStack -> {
+                T transactionResult = processItemStack(itemStack, type, option);
+                result.add(transactionResult);
+            });
+            return result;
+        });
+    }
+
     /**
      * Adds an {@link ItemStack} to the inventory and sends relevant update to the viewer(s).
      *
@@ -156,24 +274,131 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
         return processItemStacks(itemStacks, TransactionType.TAKE, option);
     }
 
-    public synchronized void replaceItemStack(int slot, @NotNull UnaryOperator<@NotNull ItemStack> operator) {
-        var currentItem = getItemStack(slot);
-        setItemStack(slot, operator.apply(currentItem));
+    public void replaceItemStack(int slot, @NotNull UnaryOperator<@NotNull ItemStack> operator) {
+        Check.argCondition(!MathUtils.isBetween(slot, 0, getSize()),
+                "Inventory does not have the slot " + slot);
+        if (currentTransaction() != null) {
+            setItemStack(slot, operator.apply(getItemStack(slot)));
+            return;
+        }
+        ItemStack previous, itemStack;
+        if (isFiltered(slot)) {
+            // The other writers of the slot wait for the lock, no retry is needed
+            this.insertLock.lock();
+            try {
+                final ItemStack current = getItemStack(slot);
+                itemStack = operator.apply(current);
+                if (itemStack.equals(current)) return;
+                itemStack = filterInsert(slot, itemStack);
+                previous = getAndSet(slot, itemStack);
+            } finally {
+                this.insertLock.unlock();
+            }
+            if (itemStack.equals(previous)) return;
+        } else {
+            boolean success;
+            do {
+                previous = getItemStack(slot);
+                itemStack = operator.apply(previous);
+                if (itemStack.equals(previous)) return;
+                final long stamp = slotLock.readLock();
+                try {
+                    success = ITEM_UPDATER.compareAndSet(itemStacks, slot, previous, itemStack);
+                } finally {
+                    slotLock.unlockRead(stamp);
+                }
+            } while (!success);
+        }
+        sendSlot(slot);
+        callChangeEvent(slot, previous, itemStack);
     }
 
     /**
      * Clears the inventory and send relevant update to the viewer(s).
      */
-    public synchronized void clear() {
+    public void clear() {
         // Clear the item array
+        transaction(inventory -> {
+            for (int i = 0; i < size; i++) {
+                safeItemInsert(i, ItemStack.AIR, false);
+            }
+            return null;
+        });
+        // Send the cleared inventory to viewers
+        refresh();
+    }
+
+    /**
+     * Schedules the synchronization of the slots changed since the last one, sent to the viewers at the end of the tick.
+     * <p>
+     * Changed slots are sent individually, or as the whole content when most of the inventory changed.
+     * Slots whose item did not change on the server are not sent, this method therefore no longer fixes
+     * items displayed by the client only (e.g. after a cancelled click) and {@link #refresh()} must be used instead.
+     */
+    public void update() {
+        this.updatePending = true;
+    }
+
+    /**
+     * Immediately resends the whole content to the viewers.
+     * <p>
+     * Necessary when the clients may display items unknown to the server, e.g. after a cancelled click.
+     */
+    public synchronized void refresh() {
+        this.updatePending = false;
+        System.arraycopy(itemStacks, 0, syncedItems, 0, size);
+        sendWindowItems();
+    }
+
+    /**
+     * Sends the slots changed since the last synchronization if {@link #update()} has been called.
+     */
+    @ApiStatus.Internal
+    public synchronized void flushUpdate() {
+        if (!updatePending) return;
+        this.updatePending = false;
+        int changed = 0;
         for (int i = 0; i < size; i++) {
-            safeItemInsert(i, ItemStack.AIR, false);
+            if (!itemStacks[i].equals(syncedItems[i])) changed++;
+        }
+        if (changed == 0) return;
+        if (changed > size / 2) {
+            refresh();
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            final ItemStack itemStack = itemStacks[i];
+            if (itemStack.equals(syncedItems[i])) continue;
+            this.syncedItems[i] = itemStack;
+            sendSlotUpdate(i, itemStack);
+        }
+    }
+
+    /**
+     * Sends the current item of a slot, then again if it changed in the meantime
+     * so that concurrent writers cannot leave viewers with an outdated item.
+     */
+    private void sendSlot(int slot) {
+        ItemStack sent = null;
+        ItemStack current;
+        while ((current = (ItemStack) ITEM_UPDATER.getVolatile(itemStacks, slot)) != sent) {
+            sendSlotUpdate(slot, current);
+            ITEM_UPDATER.setVolatile(syncedItems, slot, current);
+            sent = current;
+        }
+    }
+
+    private void callChangeEvent(int slot, @NotNull ItemStack previous, @NotNull ItemStack itemStack) {
+        if (this instanceof PlayerInventory inv) {
+            EventDispatcher.call(new PlayerInventoryItemChangeEvent(inv.player, slot, previous, itemStack));
+        } else if (this instanceof Inventory inv) {
+            EventDispatcher.call(new InventoryItemChangeEvent(inv, slot, previous, itemStack));
         }
-        // Send the cleared inventory to viewers
-        update();
     }
 
-    public abstract void update();
+    abstract void sendWindowItems();
+
+    abstract void sendSlotUpdate(int slot, @NotNull ItemStack itemStack);
 
     /**
      * Gets the {@link ItemStack} at the specified slot.
@@ -182,6 +407,10 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
      * @return the item in the slot {@code slot}
      */
     public @NotNull ItemStack getItemStack(int slot) {
+        if (runningTransactions.get() != 0) {
+            final Transaction transaction = currentTransaction();
+            if (transaction != null) return transaction.read(slot);
+        }
         return (ItemStack) ITEM_UPDATER.getVolatile(itemStacks, slot);
     }
 
@@ -255,4 +484,92 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
     public @NotNull TagHandler tagHandler() {
         return tagHandler;
     }
+
+    private @Nullable Transaction currentTransaction() {
+        Transaction transaction = TRANSACTION.get();
+        while (transaction != null && transaction.inventory != this) transaction = transaction.parent;
+        return transaction;
+    }
+
+    private record Filtered(ItemStack input, ItemStack output) {
+    }
+
+    private static final class Change {
+        private final ItemStack itemStack;
+        private final boolean sendPacket;
+        private ItemStack previous;
+
+        private Change(ItemStack itemStack, boolean sendPacket) {
+            this.itemStack = itemStack;
+            this.sendPacket = sendPacket;
+        }
+    }
+
+    private static final class Transaction {
+        private final AbstractInventory inventory;
+        private final Transaction parent;
+        // the first item seen in each read slot, validated on commit
+        private final Int2ObjectMap<ItemStack> reads = new Int2ObjectOpenHashMap<>();
+        private final Int2ObjectMap<Change> changes = new Int2ObjectLinkedOpenHashMap<>();
+        // the filter result of each filtered slot, kept across retries
+        private final Int2ObjectMap<Filtered> filtered = new Int2ObjectOpenHashMap<>();
+
+        private Transaction(AbstractInventory inventory, Transaction parent) {
+            this.inventory = inventory;
+            this.parent = parent;
+        }
+
+        private ItemStack read(int slot) {
+            final Change change = changes.get(slot);
+            if (change != null) return change.itemStack;
+            ItemStack itemStack = reads.get(slot);
+            if (itemStack == null) {
+                itemStack = (ItemStack) ITEM_UPDATER.getVolatile(inventory.itemStacks, slot);
+                this.reads.put(slot, itemStack);
+            }
+            return itemStack;
+        }
+
+        private boolean writesFiltered() {
+            for (int slot : changes.keySet()) {
+                if (inventory.isFiltered(slot)) return true;
+            }
+            return false;
+        }
+
+        private void filter() {
+            // Copied, the filter may modify the transaction
+            for (int slot : changes.keySet().toIntArray()) {
+                if (!inventory.isFiltered(slot)) continue;
+                final Change change = changes.get(slot);
+                final Filtered previous = filtered.get(slot);
+                final ItemStack itemStack;
+                if (previous != null && previous.input().equals(change.itemStack)) {
+                    itemStack = previous.output();
+                } else {
+                    itemStack = inventory.filterInsert(slot, change.itemStack);
+                    this.filtered.put(slot, new Filtered(change.itemStack, itemStack));
+                }
+                if (itemStack != change.itemStack) this.changes.put(slot, new Change(itemStack, change.sendPacket));
+            }
+        }
+
+        private boolean commit() {
+            if (changes.isEmpty()) return true;
+            final ItemStack[] itemStacks = inventory.itemStacks;
+            final long stamp = inventory.slotLock.writeLock();
+            try {
+                for (Int2ObjectMap.Entry<ItemStack> entry : reads.int2ObjectEntrySet()) {
+                    if (ITEM_UPDATER.getVolatile(itemStacks, entry.getIntKey()) != entry.getValue()) return false;
+                }
+                for (Int2ObjectMap.Entry<Change> entry : changes.int2ObjectEntrySet()) {
+                    final Change change = entry.getValue();
+                    change.previous = (ItemStack) ITEM_UPDATER.getAndSet(itemStacks, entry.getIntKey(), change.itemStack);
+                }
+                return true;
+            } finally {
+                inventory.slotLock.unlockWrite(stamp);
+            }
+        }
+    }
 }
@@ -10,12 +10,11 @@ import net.minestom.server.network.packet.server.play.OpenWindowPacket;
 import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
 import net.minestom.server.network.packet.server.play.WindowPropertyPacket;
+import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.inventory.PlayerInventoryUtils;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -93,7 +92,7 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
         // Re-open the inventory
         sendPacketToViewers(new OpenWindowPacket(getWindowId(), getInventoryType().getWindowType(), title));
         // Send inventory items
-        update();
+        refresh();
     }
 
     /**
@@ -108,19 +107,11 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     }
 
     @Override
-    public synchronized void clear() {
+    public void clear() {
         this.cursorPlayersItem.clear();
         super.clear();
     }
 
-    /**
-     * Refreshes the inventory for all viewers.
-     */
-    @Override
-    public void update() {
-        this.viewers.forEach(p -> p.sendPacket(createNewWindowItemsPacket(p)));
-    }
-
     /**
      * Refreshes the inventory for a specific viewer.
      * <p>
@@ -195,9 +186,20 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     }
 
     @Override
-    protected void UNSAFE_itemInsert(int slot, @NotNull ItemStack itemStack, boolean sendPacket) {
-        itemStacks[slot] = itemStack;
-        if (sendPacket) sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
+    void sendWindowItems() {
+        // Viewers with the same cursor share the encoded packet
+        Map<ItemStack, List<Player>> cursorGroups = new HashMap<>();
+        for (Player viewer : viewers) {
+            cursorGroups.computeIfAbsent(getCursorItem(viewer), item -> new ArrayList<>()).add(viewer);
+        }
+        final List<ItemStack> items = List.of(getItemStacks());
+        cursorGroups.forEach((cursor, players) ->
+                PacketUtils.sendGroupedPacket(players, new WindowItemsPacket(getWindowId(), 0, items, cursor)));
+    }
+
+    @Override
+    void sendSlotUpdate(int slot, @NotNull ItemStack itemStack) {
+        sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
     }
 
     private @NotNull WindowItemsPacket createNewWindowItemsPacket(Player player) {
@@ -392,7 +394,7 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     }
 
     private void updateAll(Player player) {
-        player.getInventory().update();
+        player.getInventory().refresh();
         update(player);
     }
 }
@@ -10,6 +10,7 @@ import net.minestom.server.item.ItemStack;
 import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -31,7 +32,7 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
     }
 
     @Override
-    public synchronized void clear() {
+    public void clear() {
         cursorItem = ItemStack.AIR;
         super.clear();
         // Update equipments
@@ -103,15 +104,6 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
         safeItemInsert(BOOTS_SLOT, itemStack);
     }
 
-    /**
-     * Refreshes the player inventory by sending a {@link WindowItemsPacket} containing all.
-     * the inventory items
-     */
-    @Override
-    public void update() {
-        this.player.sendPacket(createWindowItemsPacket());
-    }
-
     /**
      * Gets the item in player cursor.
      *
@@ -134,8 +126,35 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
     }
 
     @Override
-    protected void UNSAFE_itemInsert(int slot, @NotNull ItemStack itemStack, boolean sendPacket) {
-        final EquipmentSlot equipmentSlot = switch (slot) {
+    boolean isFiltered(int slot) {
+        return equipmentSlot(slot) != null;
+    }
+
+    @Override
+    @NotNull ItemStack filterInsert(int slot, @NotNull ItemStack itemStack) {
+        final EquipmentSlot equipmentSlot = equipmentSlot(slot);
+        if (equipmentSlot == null) return itemStack;
+        EntityEquipEvent entityEquipEvent = new EntityEquipEvent(player, itemStack, equipmentSlot);
+        EventDispatcher.call(entityEquipEvent);
+        return entityEquipEvent.getEquippedItem();
+    }
+
+    @Override
+    void sendWindowItems() {
+        this.player.sendPacket(createWindowItemsPacket());
+    }
+
+    @Override
+    void sendSlotUpdate(int slot, @NotNull ItemStack itemStack) {
+        // Sync equipment
+        final EquipmentSlot equipmentSlot = equipmentSlot(slot);
+        if (equipmentSlot != null) this.player.syncEquipment(equipmentSlot);
+        // Refresh slot
+        sendSlotRefresh((short) convertToPacketSlot(slot), itemStack);
+    }
+
+    private @Nullable EquipmentSlot equipmentSlot(int slot) {
+        return switch (slot) {
             case HELMET_SLOT -> EquipmentSlot.HELMET;
             case CHESTPLATE_SLOT -> EquipmentSlot.CHESTPLATE;
             case LEGGINGS_SLOT -> EquipmentSlot.LEGGINGS;
@@ -143,19 +162,6 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
             case OFFHAND_SLOT -> EquipmentSlot.OFF_HAND;
             default -> slot == player.getHeldSlot() ? EquipmentSlot.MAIN_HAND : null;
         };
-        if (equipmentSlot != null) {
-            EntityEquipEvent entityEquipEvent = new EntityEquipEvent(player, itemStack, equipmentSlot);
-            EventDispatcher.call(entityEquipEvent);
-            itemStack = entityEquipEvent.getEquippedItem();
-        }
-        this.itemStacks[slot] = itemStack;
-
-        if (sendPacket) {
-            // Sync equipment
-            if (equipmentSlot != null) this.player.syncEquipment(equipmentSlot);
-            // Refresh slot
-            sendSlotRefresh((short) convertToPacketSlot(slot), itemStack);
-        }
     }
 
     /**
@@ -190,7 +196,7 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
         final ItemStack clicked = getItemStack(convertedSlot);
         final InventoryClickResult clickResult = clickProcessor.leftClick(player, this, convertedSlot, clicked, cursor);
         if (clickResult.isCancel()) {
-            update();
+            refresh();
             return false;
         }
         setItemStack(convertedSlot, clickResult.getClicked());
@@ -206,7 +212,7 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
         final ItemStack clicked = getItemStack(convertedSlot);
         final InventoryClickResult clickResult = clickProcessor.rightClick(player, this, convertedSlot, clicked, cursor);
         if (clickResult.isCancel()) {
-            update();
+            refresh();
             return false;
         }
         setItemStack(convertedSlot, clickResult.getClicked());
@@ -218,7 +224,7 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
     @Override
     public boolean middleClick(@NotNull Player player, int slot) {
         // TODO
-        update();
+        refresh();
         return false;
     }
 
@@ -231,7 +237,7 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
         final InventoryClickResult clickResult = clickProcessor.drop(player, this,
                 all, convertedSlot, button, clicked, cursor);
         if (clickResult.isCancel()) {
-            update();
+            refresh();
             return false;
         }
         final ItemStack resultClicked = clickResult.getClicked();
@@ -255,12 +261,12 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
                 start, end, 1,
                 player, convertedSlot, clicked, cursor);
         if (clickResult.isCancel()) {
-            update();
+            refresh();
             return false;
         }
         setItemStack(convertedSlot, clickResult.getClicked());
         setCursorItem(clickResult.getCursor());
-        update(); // FIXME: currently not properly client-predicted
+        refresh(); // FIXME: currently not properly client-predicted
         return true;
     }
 
@@ -274,7 +280,7 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
         final ItemStack clicked = getItemStack(convertedSlot);
         final InventoryClickResult clickResult = clickProcessor.changeHeld(player, this, convertedSlot, convertedKey, clicked, heldItem);
         if (clickResult.isCancel()) {
-            update();
+            refresh();
             return false;
         }
         setItemStack(convertedSlot, clickResult.getClicked());
@@ -290,11 +296,11 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
         final InventoryClickResult clickResult = clickProcessor.dragging(player, this,
                 convertPlayerInventorySlot(slot, OFFSET), button, clicked, cursor);
         if (clickResult == null || clickResult.isCancel()) {
-            update();
+            refresh();
             return false;
         }
         setCursorItem(clickResult.getCursor());
-        update(); // FIXME: currently not properly client-predicted
+        refresh(); // FIXME: currently not properly client-predicted
         return true;
     }
 
@@ -305,11 +311,11 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
         final ItemStack clicked = getItemStack(convertedSlot);
         final InventoryClickResult clickResult = clickProcessor.doubleClick(this, this, player, convertedSlot, clicked, cursor);
         if (clickResult.isCancel()) {
-            update();
+            refresh();
             return false;
         }
         setCursorItem(clickResult.getCursor());
-        update(); // FIXME: currently not properly client-predicted
+        refresh(); // FIXME: currently not properly client-predicted
         return true;
     }
 
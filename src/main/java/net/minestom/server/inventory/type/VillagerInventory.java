@@ -85,6 +85,12 @@ public class VillagerInventory extends Inventory {
         sendPacketToViewers(tradeCache);
     }
 
+    @Override
+    public void refresh() {
+        super.refresh();
+        sendPacketToViewers(tradeCache);
+    }
+
     @Override
     public boolean addViewer(@NotNull Player player) {
         final boolean result = super.addViewer(player);
@@ -10,12 +10,24 @@ import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import java.util.Objects;
 import java.util.function.Consumer;
 
-import static net.minestom.server.network.NetworkBuffer.BYTE;
 import static net.minestom.server.network.NetworkBuffer.NBT;
+import static net.minestom.server.network.NetworkBuffer.RAW_BYTES;
 
-record ItemMetaImpl(TagHandler tagHandler) implements ItemMeta {
+final class ItemMetaImpl implements ItemMeta {
     static final ItemMetaImpl EMPTY = new ItemMetaImpl(TagHandler.newHandler());
 
+    private final TagHandler tagHandler;
+    // Network encoding of the nbt, computed lazily as the meta is immutable
+    private volatile byte[] encodedNbt;
+
+    ItemMetaImpl(TagHandler tagHandler) {
+        this.tagHandler = tagHandler;
+    }
+
+    TagHandler tagHandler() {
+        return tagHandler;
+    }
+
     @Override
     public <T> @UnknownNullability T getTag(@NotNull Tag<T> tag) {
         return tagHandler.getTag(tag);
@@ -40,12 +52,14 @@ record ItemMetaImpl(TagHandler tagHandler) implements ItemMeta {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        final NBTCompound nbt = toNBT();
-        if (nbt.isEmpty()) {
-            writer.write(BYTE, (byte) 0);
-            return;
+        byte[] encodedNbt = this.encodedNbt;
+        if (encodedNbt == null) {
+            final NBTCompound nbt = toNBT();
+            encodedNbt = nbt.isEmpty() ? new byte[]{0} :
+                    NetworkBuffer.makeArray(buffer -> buffer.write(NBT, nbt));
+            this.encodedNbt = encodedNbt;
         }
-        writer.write(NBT, nbt);
+        writer.write(RAW_BYTES, encodedNbt);
     }
 
     @Override
@@ -153,12 +153,12 @@ public class BlockPlacementListener {
             playerInventory.setItemInHand(hand, newUsedItem);
         } else {
             // Prevent invisible item on client
-            playerInventory.update();   
+            playerInventory.refresh();   
         }
     }
 
     private static void refresh(Player player, Chunk chunk) {
-        player.getInventory().update();
+        player.getInventory().refresh();
         chunk.sendChunk(player);
     }
 }
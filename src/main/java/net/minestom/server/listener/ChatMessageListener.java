@@ -25,7 +25,7 @@ public class ChatMessageListener {
     public static void commandChatListener(ClientCommandChatPacket packet, Player player) {
         final String command = packet.message();
         if (Messenger.canReceiveCommand(player)) {
-            COMMAND_MANAGER.execute(player, command);
+            COMMAND_MANAGER.executeAsync(player, command);
         } else {
             Messenger.sendRejectionMessage(player);
         }
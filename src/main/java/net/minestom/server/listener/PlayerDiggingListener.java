@@ -178,7 +178,7 @@ public final class PlayerDiggingListener {
         if (player.dropItem(droppedItem)) {
             playerInventory.setItemInMainHand(handItem);
         } else {
-            playerInventory.update();
+            playerInventory.refresh();
         }
     }
 
@@ -1,40 +1,66 @@
 package net.minestom.server.listener;
 
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.GlobalEventHandler;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerMoveEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.packet.client.play.*;
 import net.minestom.server.network.packet.server.play.PlayerPositionAndLookPacket;
 import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.utils.position.PositionUtils;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 public class PlayerPositionListener {
+    // Avoids looking up the handle for every movement packet, replaced when the server process changes
+    private static volatile MoveHandle moveHandle;
 
     public static void playerPacketListener(ClientPlayerPacket packet, Player player) {
         player.refreshOnGround(packet.onGround());
     }
 
     public static void playerLookListener(ClientPlayerRotationPacket packet, Player player) {
-        processMovement(player, player.getPosition().withView(packet.yaw(), packet.pitch()), packet.onGround());
+        final Pos position = player.getPosition();
+        processMovement(player, position.x(), position.y(), position.z(),
+                packet.yaw(), packet.pitch(), packet.onGround());
     }
 
     public static void playerPositionListener(ClientPlayerPositionPacket packet, Player player) {
-        processMovement(player, player.getPosition().withCoord(packet.position()), packet.onGround());
+        final Point point = packet.position();
+        final Pos position = player.getPosition();
+        processMovement(player, point.x(), point.y(), point.z(),
+                position.yaw(), position.pitch(), packet.onGround());
     }
 
     public static void playerPositionAndLookListener(ClientPlayerPositionAndRotationPacket packet, Player player) {
-        processMovement(player, packet.position(), packet.onGround());
+        final Pos position = packet.position();
+        processMovement(player, position.x(), position.y(), position.z(),
+                position.yaw(), position.pitch(), packet.onGround());
     }
 
     public static void teleportConfirmListener(ClientTeleportConfirmPacket packet, Player player) {
         player.refreshReceivedTeleportId(packet.teleportId());
     }
 
-    private static void processMovement(@NotNull Player player, @NotNull Pos packetPosition, boolean onGround) {
-        final var currentPosition = player.getPosition();
-        if (currentPosition.equals(packetPosition)) {
+    /**
+     * Applies a movement received from the client.
+     * <p>
+     * Validation is done on primitives, the new {@link Pos} is only allocated once the movement is accepted
+     * and {@link PlayerMoveEvent} only if listened. The entity position itself stays an immutable {@link Pos}.
+     */
+    @ApiStatus.Internal
+    public static void processMovement(@NotNull Player player, double x, double y, double z,
+                                       float yaw, float pitch, boolean onGround) {
+        // Compared with the stored yaw, which is normalized
+        yaw = PositionUtils.fixYaw(yaw);
+        final Pos currentPosition = player.getPosition();
+        if (Double.compare(currentPosition.x(), x) == 0 && Double.compare(currentPosition.y(), y) == 0 &&
+                Double.compare(currentPosition.z(), z) == 0 &&
+                Float.compare(currentPosition.yaw(), yaw) == 0 && Float.compare(currentPosition.pitch(), pitch) == 0) {
             // For some reason, the position is the same
             return;
         }
@@ -48,13 +74,23 @@ public class PlayerPositionListener {
             return;
         }
         // Try to move in an unloaded chunk, prevent it
-        if (!currentPosition.sameChunk(packetPosition) && !ChunkUtils.isLoaded(instance, packetPosition)) {
+        final boolean sameChunk = currentPosition.chunkX() == ChunkUtils.getChunkCoordinate(x) &&
+                currentPosition.chunkZ() == ChunkUtils.getChunkCoordinate(z);
+        if (!sameChunk && !ChunkUtils.isLoaded(instance, x, z)) {
             player.teleport(currentPosition);
             return;
         }
 
+        final Pos packetPosition = new Pos(x, y, z, yaw, pitch);
+        final ListenerHandle<PlayerMoveEvent> moveHandle = moveHandle();
+        if (!moveHandle.hasListener()) {
+            player.refreshPosition(packetPosition);
+            player.refreshOnGround(onGround);
+            return;
+        }
+
         PlayerMoveEvent playerMoveEvent = new PlayerMoveEvent(player, packetPosition, onGround);
-        EventDispatcher.call(playerMoveEvent);
+        moveHandle.call(playerMoveEvent);
         if (!currentPosition.equals(player.getPosition())) {
             // Player has been teleported in the event
             return;
@@ -80,4 +116,17 @@ public class PlayerPositionListener {
             }
         }
     }
+
+    private static ListenerHandle<PlayerMoveEvent> moveHandle() {
+        final GlobalEventHandler eventHandler = MinecraftServer.getGlobalEventHandler();
+        MoveHandle cached = moveHandle;
+        if (cached == null || cached.eventHandler() != eventHandler) {
+            cached = new MoveHandle(eventHandler, eventHandler.getHandle(PlayerMoveEvent.class));
+            moveHandle = cached;
+        }
+        return cached.handle();
+    }
+
+    private record MoveHandle(GlobalEventHandler eventHandler, ListenerHandle<PlayerMoveEvent> handle) {
+    }
 }
@@ -12,20 +12,25 @@ public class TabCompleteListener {
 
     public static void listener(ClientTabCompletePacket packet, Player player) {
         final String text = packet.text();
-        final Suggestion suggestion = getSuggestion(player, text);
-        if (suggestion != null) {
-            player.sendPacket(new TabCompletePacket(
-                    packet.transactionId(),
-                    suggestion.getStart(),
-                    suggestion.getLength(),
-                    suggestion.getEntries().stream()
-                            .map(suggestionEntry -> new TabCompletePacket.Match(suggestionEntry.getEntry(), suggestionEntry.getTooltip()))
-                            .toList())
-            );
-        }
+        MinecraftServer.getCommandManager().suggestAsync(player, suggestionInput(text)).thenAccept(suggestion -> {
+            if (suggestion != null) {
+                player.sendPacket(new TabCompletePacket(
+                        packet.transactionId(),
+                        suggestion.getStart(),
+                        suggestion.getLength(),
+                        suggestion.getEntries().stream()
+                                .map(suggestionEntry -> new TabCompletePacket.Match(suggestionEntry.getEntry(), suggestionEntry.getTooltip()))
+                                .toList())
+                );
+            }
+        });
     }
 
     public static @Nullable Suggestion getSuggestion(CommandSender commandSender, String text) {
+        return MinecraftServer.getCommandManager().parseCommand(suggestionInput(text)).suggestion(commandSender);
+    }
+
+    private static String suggestionInput(String text) {
         if (text.startsWith("/")) {
             text = text.substring(1);
         }
@@ -35,6 +40,6 @@ public class TabCompleteListener {
             // it works as intended :)
             text = text + '\00';
         }
-        return MinecraftServer.getCommandManager().parseCommand(text).suggestion(commandSender);
+        return text;
     }
 }
@@ -23,7 +23,7 @@ public class UseItemListener {
 
         final PlayerInventory playerInventory = player.getInventory();
         if (useItemEvent.isCancelled()) {
-            playerInventory.update();
+            playerInventory.refresh();
             return;
         }
 
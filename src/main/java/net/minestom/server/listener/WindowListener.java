@@ -68,7 +68,7 @@ public class WindowListener {
 
         // Prevent ghost item when the click is cancelled
         if (!successful) {
-            player.getInventory().update();
+            player.getInventory().refresh();
             if (inventory instanceof Inventory) {
                 ((Inventory) inventory).update(player);
             }
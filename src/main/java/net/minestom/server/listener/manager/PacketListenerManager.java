@@ -3,7 +3,7 @@ package net.minestom.server.listener.manager;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerProcess;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketEvent;
 import net.minestom.server.listener.*;
 import net.minestom.server.network.packet.client.ClientPacket;
@@ -21,6 +21,8 @@ public final class PacketListenerManager {
     private final ServerProcess serverProcess;
 
     private final Map<Class<? extends ClientPacket>, PacketListenerConsumer> listeners = new ConcurrentHashMap<>();
+    // Lazily retrieved, the event handler is created after this manager
+    private volatile ListenerHandle<PlayerPacketEvent> packetEventHandle;
 
     public PacketListenerManager(ServerProcess serverProcess) {
         this.serverProcess = serverProcess;
@@ -77,11 +79,14 @@ public final class PacketListenerManager {
             LOGGER.warn("Packet " + clazz + " does not have any default listener! (The issue comes from Minestom)");
         }
 
-        // Event
-        PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(player, packet);
-        EventDispatcher.call(playerPacketEvent);
-        if (playerPacketEvent.isCancelled()) {
-            return;
+        // Event, only allocated if listened
+        final ListenerHandle<PlayerPacketEvent> packetEventHandle = packetEventHandle();
+        if (packetEventHandle.hasListener()) {
+            PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(player, packet);
+            packetEventHandle.call(playerPacketEvent);
+            if (playerPacketEvent.isCancelled()) {
+                return;
+            }
         }
 
         // Finally execute the listener
@@ -95,6 +100,15 @@ public final class PacketListenerManager {
         }
     }
 
+    private ListenerHandle<PlayerPacketEvent> packetEventHandle() {
+        ListenerHandle<PlayerPacketEvent> handle = this.packetEventHandle;
+        if (handle == null) {
+            handle = serverProcess.eventHandler().getHandle(PlayerPacketEvent.class);
+            this.packetEventHandle = handle;
+        }
+        return handle;
+    }
+
     /**
      * Sets the listener of a packet.
      * <p>
@@ -13,7 +13,6 @@ import net.minestom.server.network.packet.server.play.KeepAlivePacket;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.utils.StringUtils;
-import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.debug.DebugUtils;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MessagePassingQueue;
@@ -22,9 +21,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -34,11 +33,30 @@ public final class ConnectionManager {
     private static final long KEEP_ALIVE_DELAY = 10_000;
     private static final long KEEP_ALIVE_KICK = 30_000;
     private static final Component TIMEOUT_TEXT = Component.text("Timeout", NamedTextColor.RED);
+    private static final Component BUSY_TEXT = Component.text("The server is busy, please try again later", NamedTextColor.RED);
+    private static final int PRE_LOGIN_THREADS = Integer.getInteger("minestom.login.pre-login-threads",
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int PRE_LOGIN_QUEUE_SIZE = Integer.getInteger("minestom.login.pre-login-queue-size", 1000);
+    private static final int SPAWNS_PER_TICK = Integer.getInteger("minestom.login.spawns-per-tick", 20);
 
     private final MessagePassingQueue<Player> waitingPlayers = new MpscUnboundedArrayQueue<>(64);
-    private final Set<Player> players = new CopyOnWriteArraySet<>();
-    private final Set<Player> unmodifiablePlayers = Collections.unmodifiableSet(players);
+    // Admission tickets of the waiting players, used to compute their position in the queue
+    private final Map<Player, Long> waitingTickets = new ConcurrentHashMap<>();
+    private final AtomicLong admissionCounter = new AtomicLong();
+    private volatile long admittedCount;
+    private volatile int spawnsPerTick = SPAWNS_PER_TICK;
+    // Runs the pre-login event, bounded to prevent login waves from exhausting the common pool
+    private final ThreadPoolExecutor preLoginExecutor = createPreLoginExecutor();
+    // Online players with the keys used to index them, iterated without copy
+    private final Map<Player, PlayerKeys> players = new ConcurrentHashMap<>();
+    private final Set<Player> unmodifiablePlayers = Collections.unmodifiableSet(players.keySet());
     private final Map<PlayerConnection, Player> connectionPlayerMap = new ConcurrentHashMap<>();
+    private final Map<UUID, Player> playersByUuid = new ConcurrentHashMap<>();
+    private final Map<String, Player> playersByName = new ConcurrentHashMap<>();
+    // Sorted lowercase usernames for prefix lookups
+    private final ConcurrentNavigableMap<String, Player> sortedPlayerNames = new ConcurrentSkipListMap<>();
+    // Players missing from an index because another player shares their uuid or username, guarded by this
+    private final Set<Player> shadowedPlayers = new HashSet<>();
 
     // The uuid provider once a player login
     private volatile UuidProvider uuidProvider = (playerConnection, username) -> UUID.randomUUID();
@@ -79,7 +97,10 @@ public final class ConnectionManager {
             final String username2 = player.getUsername().toLowerCase(Locale.ROOT);
             return StringUtils.jaroWinklerScore(username1, username2);
         };
-        return getOnlinePlayers()
+        // Prefer players whose username starts with the input
+        Collection<Player> candidates = sortedPlayerNames.subMap(username1, username1 + Character.MAX_VALUE).values();
+        if (candidates.isEmpty()) candidates = getOnlinePlayers();
+        return candidates
                 .stream()
                 .min(Comparator.comparingDouble(distanceFunction::apply))
                 .filter(player -> distanceFunction.apply(player) > 0)
@@ -95,10 +116,8 @@ public final class ConnectionManager {
      * @return the first player who validate the username condition, null if none was found
      */
     public @Nullable Player getPlayer(@NotNull String username) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUsername().equalsIgnoreCase(username))
-                return player;
-        }
+        final Player player = playersByName.get(username.toLowerCase(Locale.ROOT));
+        if (player != null && player.getUsername().equalsIgnoreCase(username)) return player;
         return null;
     }
 
@@ -111,10 +130,8 @@ public final class ConnectionManager {
      * @return the first player who validate the UUID condition, null if none was found
      */
     public @Nullable Player getPlayer(@NotNull UUID uuid) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUuid().equals(uuid))
-                return player;
-        }
+        final Player player = playersByUuid.get(uuid);
+        if (player != null && player.getUuid().equals(uuid)) return player;
         return null;
     }
 
@@ -166,8 +183,10 @@ public final class ConnectionManager {
     }
 
     public synchronized void registerPlayer(@NotNull Player player) {
-        this.players.add(player);
+        final PlayerKeys keys = new PlayerKeys(player.getUuid(), player.getUsername().toLowerCase(Locale.ROOT));
+        if (players.putIfAbsent(player, keys) != null) return;
         this.connectionPlayerMap.put(player.getPlayerConnection(), player);
+        if (!index(player, keys)) this.shadowedPlayers.add(player);
     }
 
     /**
@@ -181,7 +200,28 @@ public final class ConnectionManager {
     public synchronized void removePlayer(@NotNull PlayerConnection connection) {
         final Player player = this.connectionPlayerMap.remove(connection);
         if (player == null) return;
-        this.players.remove(player);
+        final PlayerKeys keys = this.players.remove(player);
+        if (keys == null) return;
+        this.playersByUuid.remove(keys.uuid(), player);
+        this.playersByName.remove(keys.name(), player);
+        this.sortedPlayerNames.remove(keys.name(), player);
+        if (!shadowedPlayers.isEmpty()) {
+            this.shadowedPlayers.remove(player);
+            // Index the players which were sharing a key with the removed one
+            this.shadowedPlayers.removeIf(shadowed -> index(shadowed, players.get(shadowed)));
+        }
+    }
+
+    /**
+     * Adds a player to the uuid and username indexes.
+     *
+     * @return true if the player is present in every index
+     */
+    private boolean index(@NotNull Player player, @NotNull PlayerKeys keys) {
+        final Player uuidPlayer = playersByUuid.putIfAbsent(keys.uuid(), player);
+        final Player namePlayer = playersByName.putIfAbsent(keys.name(), player);
+        if (namePlayer == null) this.sortedPlayerNames.put(keys.name(), player);
+        return (uuidPlayer == null || uuidPlayer == player) && (namePlayer == null || namePlayer == player);
     }
 
     /**
@@ -194,7 +234,7 @@ public final class ConnectionManager {
      * @param register true to register the newly created player in {@link ConnectionManager} lists
      */
     public CompletableFuture<Void> startPlayState(@NotNull Player player, boolean register) {
-        return AsyncUtils.runAsync(() -> {
+        return runPreLogin(player, () -> {
             final PlayerConnection playerConnection = player.getPlayerConnection();
             // Compression
             if (playerConnection instanceof PlayerSocketConnection socketConnection) {
@@ -222,10 +262,70 @@ public final class ConnectionManager {
             playerConnection.sendPacket(loginSuccessPacket);
             playerConnection.setConnectionState(ConnectionState.PLAY);
             if (register) registerPlayer(player);
+            this.waitingTickets.put(player, admissionCounter.getAndIncrement());
             this.waitingPlayers.relaxedOffer(player);
         });
     }
 
+    private @NotNull CompletableFuture<Void> runPreLogin(@NotNull Player player, @NotNull Runnable runnable) {
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    runnable.run();
+                } catch (Exception e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }, preLoginExecutor);
+        } catch (RejectedExecutionException e) {
+            player.kick(BUSY_TEXT);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Gets the position of a player waiting to be spawned.
+     * <p>
+     * The client has no way to display it before spawning, this is meant for proxies and plugins.
+     *
+     * @param player the player
+     * @return the approximate number of players spawning before {@code player},
+     * -1 if the player is not waiting
+     */
+    public int getWaitingPosition(@NotNull Player player) {
+        final Long ticket = waitingTickets.get(player);
+        if (ticket == null) return -1;
+        return (int) Math.max(0, ticket - admittedCount);
+    }
+
+    /**
+     * Gets the number of players waiting to be spawned.
+     *
+     * @return the waiting players count
+     */
+    public int getWaitingPlayerCount() {
+        return waitingPlayers.size();
+    }
+
+    /**
+     * Gets the maximum number of players spawned during a single tick.
+     *
+     * @return the spawn limit per tick
+     */
+    public int getSpawnsPerTick() {
+        return spawnsPerTick;
+    }
+
+    /**
+     * Changes the maximum number of players spawned during a single tick,
+     * the other players wait for the next ticks.
+     *
+     * @param spawnsPerTick the new spawn limit per tick
+     */
+    public void setSpawnsPerTick(int spawnsPerTick) {
+        Check.argCondition(spawnsPerTick < 1, "The spawn limit must be positive");
+        this.spawnsPerTick = spawnsPerTick;
+    }
+
     /**
      * Creates a {@link Player} using the defined {@link PlayerProvider}
      * and execute {@link #startPlayState(Player, boolean)}.
@@ -247,13 +347,26 @@ public final class ConnectionManager {
     public synchronized void shutdown() {
         this.players.clear();
         this.connectionPlayerMap.clear();
+        this.playersByUuid.clear();
+        this.playersByName.clear();
+        this.sortedPlayerNames.clear();
+        this.shadowedPlayers.clear();
+        this.preLoginExecutor.shutdown();
     }
 
     /**
-     * Connects waiting players.
+     * Connects waiting players, at most {@link #getSpawnsPerTick()} per call.
      */
     public void updateWaitingPlayers() {
-        this.waitingPlayers.drain(waitingPlayer -> {
+        final int limit = spawnsPerTick;
+        int spawned = 0;
+        Player waitingPlayer;
+        while (spawned < limit && (waitingPlayer = waitingPlayers.relaxedPoll()) != null) {
+            final Long ticket = waitingTickets.remove(waitingPlayer);
+            if (ticket != null && ticket >= admittedCount) this.admittedCount = ticket + 1;
+            // Disconnected while waiting, does not count toward the limit
+            if (!waitingPlayer.isOnline()) continue;
+            spawned++;
             PlayerLoginEvent loginEvent = new PlayerLoginEvent(waitingPlayer);
             EventDispatcher.call(loginEvent);
             final Instance spawningInstance = loginEvent.getSpawningInstance();
@@ -265,7 +378,19 @@ public final class ConnectionManager {
             } else {
                 waitingPlayer.UNSAFE_init(spawningInstance);
             }
+        }
+    }
+
+    private static ThreadPoolExecutor createPreLoginExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(PRE_LOGIN_THREADS, PRE_LOGIN_THREADS,
+                30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(PRE_LOGIN_QUEUE_SIZE), runnable -> {
+            Thread thread = new Thread(runnable, "Ms-PreLogin-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
         });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     /**
@@ -285,4 +410,11 @@ public final class ConnectionManager {
             }
         }
     }
+
+    /**
+     * The keys of a player at registration, used to remove it from the indexes
+     * even if its uuid or username changed afterward.
+     */
+    private record PlayerKeys(UUID uuid, String name) {
+    }
 }
@@ -308,7 +308,8 @@ final class NetworkBufferTypes {
                 buffer.write(BOOLEAN, true);
                 buffer.write(VAR_INT, value.material().id());
                 buffer.write(BYTE, (byte) value.amount());
-                buffer.write(NBT, value.meta().toNBT());
+                // Cached by the meta
+                buffer.write(value.meta());
                 return -1;
             },
             buffer -> {
@@ -51,6 +51,12 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
     }
 
     public static final class Play extends ClientPacketsHandler {
+        // Movement packets, also coalesced before being decoded by the connection
+        public static final int PLAYER_POSITION_ID = 0x14;
+        public static final int PLAYER_POSITION_AND_ROTATION_ID = 0x15;
+        public static final int PLAYER_ROTATION_ID = 0x16;
+        public static final int PLAYER_ID = 0x17;
+
         public Play() {
             register(0x00, ClientTeleportConfirmPacket::new);
             register(0x01, ClientQueryBlockNbtPacket::new);
@@ -72,10 +78,10 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
             register(0x11, ClientGenerateStructurePacket::new);
             register(0x12, ClientKeepAlivePacket::new);
             // 0x12 packet not used server-side
-            register(0x14, ClientPlayerPositionPacket::new);
-            register(0x15, ClientPlayerPositionAndRotationPacket::new);
-            register(0x16, ClientPlayerRotationPacket::new);
-            register(0x17, ClientPlayerPacket::new);
+            register(PLAYER_POSITION_ID, ClientPlayerPositionPacket::new);
+            register(PLAYER_POSITION_AND_ROTATION_ID, ClientPlayerPositionAndRotationPacket::new);
+            register(PLAYER_ROTATION_ID, ClientPlayerRotationPacket::new);
+            register(PLAYER_ID, ClientPlayerPacket::new);
             register(0x18, ClientVehicleMovePacket::new);
             register(0x19, ClientSteerBoatPacket::new);
             register(0x1A, ClientPickItemPacket::new);
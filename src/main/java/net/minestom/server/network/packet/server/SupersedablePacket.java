@@ -0,0 +1,21 @@
+package net.minestom.server.network.packet.server;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A server packet updating a state where only the most recent value matters.
+ * <p>
+ * A pending packet can be replaced by a more recent one of the same type and key instead of being sent.
+ * Pending packets are written before any other packet, they may only be reordered relative to each other.
+ */
+@ApiStatus.Experimental
+public interface SupersedablePacket extends ServerPacket {
+    /**
+     * Gets the key of the updated state within the packet type, e.g. an entity id.
+     *
+     * @return the key of the packet
+     */
+    default int supersedeKey() {
+        return 0;
+    }
+}
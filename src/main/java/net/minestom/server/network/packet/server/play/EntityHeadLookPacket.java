@@ -1,14 +1,14 @@
 package net.minestom.server.network.packet.server.play;
 
 import net.minestom.server.network.NetworkBuffer;
-import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
+import net.minestom.server.network.packet.server.SupersedablePacket;
 import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.BYTE;
 import static net.minestom.server.network.NetworkBuffer.VAR_INT;
 
-public record EntityHeadLookPacket(int entityId, float yaw) implements ServerPacket {
+public record EntityHeadLookPacket(int entityId, float yaw) implements SupersedablePacket {
     public EntityHeadLookPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), (reader.read(BYTE) * 360f) / 256f);
     }
@@ -23,4 +23,9 @@ public record EntityHeadLookPacket(int entityId, float yaw) implements ServerPac
     public int getId() {
         return ServerPacketIdentifier.ENTITY_HEAD_LOOK;
     }
+
+    @Override
+    public int supersedeKey() {
+        return entityId;
+    }
 }
@@ -2,8 +2,8 @@ package net.minestom.server.network.packet.server.play;
 
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.network.NetworkBuffer;
-import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
+import net.minestom.server.network.packet.server.SupersedablePacket;
 import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
@@ -11,7 +11,7 @@ import static net.minestom.server.network.NetworkBuffer.SHORT;
 import static net.minestom.server.network.NetworkBuffer.VAR_INT;
 
 public record EntityVelocityPacket(int entityId, short velocityX, short velocityY,
-                                   short velocityZ) implements ServerPacket {
+                                   short velocityZ) implements SupersedablePacket {
     public EntityVelocityPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), reader.read(SHORT), reader.read(SHORT), reader.read(SHORT));
     }
@@ -37,4 +37,9 @@ public record EntityVelocityPacket(int entityId, short velocityX, short velocity
     public int getId() {
         return ServerPacketIdentifier.ENTITY_VELOCITY;
     }
+
+    @Override
+    public int supersedeKey() {
+        return entityId;
+    }
 }
@@ -1,14 +1,14 @@
 package net.minestom.server.network.packet.server.play;
 
 import net.minestom.server.network.NetworkBuffer;
-import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
+import net.minestom.server.network.packet.server.SupersedablePacket;
 import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.FLOAT;
 import static net.minestom.server.network.NetworkBuffer.VAR_INT;
 
-public record SetExperiencePacket(float percentage, int level, int totalExperience) implements ServerPacket {
+public record SetExperiencePacket(float percentage, int level, int totalExperience) implements SupersedablePacket {
     public SetExperiencePacket(@NotNull NetworkBuffer reader) {
         this(reader.read(FLOAT), reader.read(VAR_INT), reader.read(VAR_INT));
     }
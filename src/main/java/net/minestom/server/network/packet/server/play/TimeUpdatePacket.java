@@ -1,13 +1,13 @@
 package net.minestom.server.network.packet.server.play;
 
 import net.minestom.server.network.NetworkBuffer;
-import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
+import net.minestom.server.network.packet.server.SupersedablePacket;
 import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.LONG;
 
-public record TimeUpdatePacket(long worldAge, long timeOfDay) implements ServerPacket {
+public record TimeUpdatePacket(long worldAge, long timeOfDay) implements SupersedablePacket {
     public TimeUpdatePacket(@NotNull NetworkBuffer reader) {
         this(reader.read(LONG), reader.read(LONG));
     }
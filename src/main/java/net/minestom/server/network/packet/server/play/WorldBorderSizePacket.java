@@ -1,13 +1,13 @@
 package net.minestom.server.network.packet.server.play;
 
 import net.minestom.server.network.NetworkBuffer;
-import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
+import net.minestom.server.network.packet.server.SupersedablePacket;
 import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.DOUBLE;
 
-public record WorldBorderSizePacket(double diameter) implements ServerPacket {
+public record WorldBorderSizePacket(double diameter) implements SupersedablePacket {
     public WorldBorderSizePacket(@NotNull NetworkBuffer reader) {
         this(reader.read(DOUBLE));
     }
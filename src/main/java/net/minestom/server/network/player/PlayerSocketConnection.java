@@ -1,18 +1,21 @@
 package net.minestom.server.network.player;
 
-import net.kyori.adventure.translation.GlobalTranslator;
 import net.minestom.server.MinecraftServer;
-import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.ListenerHandle;
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.event.player.PlayerPacketEvent;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
+import net.minestom.server.event.player.PlayerRawPacketEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.ClientPacketsHandler;
 import net.minestom.server.network.packet.server.*;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.network.socket.Worker;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
@@ -47,6 +50,25 @@ import java.util.zip.DataFormatException;
 public class PlayerSocketConnection extends PlayerConnection {
     private final static Logger LOGGER = LoggerFactory.getLogger(PlayerSocketConnection.class);
     private static final ObjectPool<BinaryBuffer> POOL = ObjectPool.BUFFER_POOL;
+    // Movement packet ids, registered by ClientPacketsHandler.Play
+    private static final int POSITION_ID = ClientPacketsHandler.Play.PLAYER_POSITION_ID;
+    private static final int POSITION_ROTATION_ID = ClientPacketsHandler.Play.PLAYER_POSITION_AND_ROTATION_ID;
+    private static final int ROTATION_ID = ClientPacketsHandler.Play.PLAYER_ROTATION_ID;
+    private static final int ON_GROUND_ID = ClientPacketsHandler.Play.PLAYER_ID;
+    // Position and rotation packet: 3 doubles, 2 floats and a boolean
+    private static final int MAX_MOVEMENT_SIZE = 33;
+    // Shared buffers at least this big are written without being copied
+    private static final int ZERO_COPY_THRESHOLD = Integer.getInteger("minestom.zero-copy-threshold", 1024);
+    private static final int MAX_GATHERED_BUFFERS = 64;
+    // Bytes waiting to be sent before applying the outbound policy
+    private static final int OUTBOUND_LIMIT = Integer.getInteger("minestom.outbound-limit", 8 * 1024 * 1024);
+    private static final int OUTBOUND_HARD_LIMIT = Integer.getInteger("minestom.outbound-hard-limit", 64 * 1024 * 1024);
+    private static final OutboundPolicy OUTBOUND_POLICY = OutboundPolicy.valueOf(
+            System.getProperty("minestom.outbound-policy", "drop").toUpperCase(Locale.ROOT));
+    // Purely cosmetic packets, skipped when the client cannot keep up
+    // relative entity moves are excluded, skipping one would leave the entity at a wrong position until its next teleport
+    private static final Set<Class<? extends ServerPacket>> DROPPABLE_PACKETS = Set.of(
+            ParticlePacket.class, SoundEffectPacket.class, NamedSoundEffectPacket.class, EntitySoundEffectPacket.class);
 
     private final Worker worker;
     private final MessagePassingQueue<Runnable> workerQueue;
@@ -70,11 +92,33 @@ public class PlayerSocketConnection extends PlayerConnection {
     // cleared once the player enters the play state
     private final Map<Integer, String> pluginRequestMap = new ConcurrentHashMap<>();
 
-    private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
+    // Buffers waiting to be written to the socket, in order
+    private final ArrayDeque<PendingWrite> pendingWrites = new ArrayDeque<>();
+    private final ByteBuffer[] gatheredBuffers = new ByteBuffer[MAX_GATHERED_BUFFERS];
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
+    // Offset up to which the tick buffer content has been moved to the pending writes
+    private int tickBufferQueued;
     private BinaryBuffer cacheBuffer;
+    // Supersedable packets not yet written, replaced by the more recent ones of the same key
+    private final Map<Object, LatestPacket> latestPackets = new LinkedHashMap<>();
+
+    private volatile int outboundLimit = OUTBOUND_LIMIT;
+    private volatile OutboundPolicy outboundPolicy = OUTBOUND_POLICY;
+    // Written by the worker thread only
+    private volatile long pendingBytes;
+    private volatile long peakPendingBytes;
+    private volatile long droppedPackets;
+    private volatile long supersededPackets;
+    private boolean overflowed;
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
+    private final ListenerHandle<PlayerRawPacketEvent> incomingRaw = EventDispatcher.getHandle(PlayerRawPacketEvent.class);
+    private final ListenerHandle<PlayerMoveEvent> moveHandle = EventDispatcher.getHandle(PlayerMoveEvent.class);
+    private final ListenerHandle<PlayerPacketEvent> packetHandle = EventDispatcher.getHandle(PlayerPacketEvent.class);
+
+    // Last movement packet read, only decoded if not replaced by the following packet
+    private final ByteBuffer pendingMovement = ByteBuffer.allocate(MAX_MOVEMENT_SIZE);
+    private int pendingMovementId = -1;
 
     public PlayerSocketConnection(@NotNull Worker worker, @NotNull SocketChannel channel, SocketAddress remoteAddress) {
         super();
@@ -104,24 +148,95 @@ public class PlayerSocketConnection extends PlayerConnection {
                     (id, payload) -> {
                         if (!isOnline())
                             return; // Prevent packet corruption
-                        ClientPacket packet = null;
-                        try {
-                            packet = packetProcessor.process(this, id, payload);
-                        } catch (Exception e) {
-                            // Error while reading the packet
-                            MinecraftServer.getExceptionManager().handleException(e);
-                        } finally {
-                            if (payload.position() != payload.limit()) {
-                                LOGGER.warn("WARNING: Packet 0x{} not fully read ({}) {}", Integer.toHexString(id), payload, packet);
-                            }
-                        }
+                        if (!filterRawPacket(id, payload))
+                            return; // Cancelled before decoding
+                        if (deferMovement(id, payload, packetProcessor))
+                            return; // Decoded once the next packet is known
+                        processPacket(id, payload, packetProcessor);
                     });
         } catch (DataFormatException e) {
             MinecraftServer.getExceptionManager().handleException(e);
             disconnect();
+        } finally {
+            flushMovement(packetProcessor);
+        }
+    }
+
+    private void processPacket(int id, ByteBuffer payload, PacketProcessor packetProcessor) {
+        ClientPacket packet = null;
+        try {
+            packet = packetProcessor.process(this, id, payload);
+        } catch (Exception e) {
+            // Error while reading the packet
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            if (payload.position() != payload.limit()) {
+                LOGGER.warn("WARNING: Packet 0x{} not fully read ({}) {}", Integer.toHexString(id), payload, packet);
+            }
         }
     }
 
+    /**
+     * Keeps a movement packet undecoded until the next packet is read,
+     * dropping it if the next one replaces it.
+     * <p>
+     * Only done when no listener could observe the intermediate movements.
+     *
+     * @return true if the packet has been deferred
+     */
+    private boolean deferMovement(int id, ByteBuffer payload, PacketProcessor packetProcessor) {
+        if (!isMovement(id) || getConnectionState() != ConnectionState.PLAY || getPlayer() == null ||
+                payload.remaining() > pendingMovement.capacity() ||
+                moveHandle.hasListener() || packetHandle.hasListener()) {
+            flushMovement(packetProcessor);
+            return false;
+        }
+        final int pendingId = this.pendingMovementId;
+        if (pendingId != -1 && !supersedes(id, pendingId)) flushMovement(packetProcessor);
+        this.pendingMovement.clear().put(payload).flip();
+        this.pendingMovementId = id;
+        return true;
+    }
+
+    private void flushMovement(PacketProcessor packetProcessor) {
+        final int id = this.pendingMovementId;
+        if (id == -1) return;
+        this.pendingMovementId = -1;
+        if (isOnline()) processPacket(id, pendingMovement, packetProcessor);
+    }
+
+    private static boolean isMovement(int id) {
+        return id == POSITION_ID || id == POSITION_ROTATION_ID || id == ROTATION_ID || id == ON_GROUND_ID;
+    }
+
+    /**
+     * Gets if the movement packet {@code id} makes the previous movement packet {@code previousId} useless.
+     */
+    private static boolean supersedes(int id, int previousId) {
+        return switch (id) {
+            case POSITION_ROTATION_ID -> true;
+            case POSITION_ID -> previousId == POSITION_ID || previousId == ON_GROUND_ID;
+            case ROTATION_ID -> previousId == ROTATION_ID || previousId == ON_GROUND_ID;
+            default -> previousId == ON_GROUND_ID;
+        };
+    }
+
+    /**
+     * Calls {@link PlayerRawPacketEvent} if listened, without decoding the packet.
+     *
+     * @return true if the packet should be decoded and processed
+     */
+    private boolean filterRawPacket(int id, ByteBuffer payload) {
+        final Player player = getPlayer();
+        if (player == null || getConnectionState() != ConnectionState.PLAY || !incomingRaw.hasListener())
+            return true;
+        PlayerRawPacketEvent event = new PlayerRawPacketEvent(player, id, payload.asReadOnlyBuffer());
+        this.incomingRaw.call(event);
+        if (!event.isCancelled()) return true;
+        payload.position(payload.limit());
+        return false;
+    }
+
     public void consumeCache(BinaryBuffer buffer) {
         final BinaryBuffer cache = this.cacheBuffer;
         if (cache != null) {
@@ -171,7 +286,10 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     @ApiStatus.Internal
     public void write(@NotNull ByteBuffer buffer, int index, int length) {
-        this.workerQueue.relaxedOffer(() -> writeBufferSync(buffer, index, length));
+        this.workerQueue.relaxedOffer(() -> {
+            writeLatestPackets();
+            writeBufferSync(buffer, index, length);
+        });
     }
 
     @ApiStatus.Internal
@@ -179,6 +297,76 @@ public class PlayerSocketConnection extends PlayerConnection {
         write(buffer, buffer.position(), buffer.remaining());
     }
 
+    /**
+     * Writes a buffer which is never modified afterward, allowing it to be sent without copy.
+     *
+     * @param buffer the immutable buffer, can be shared between connections
+     * @param index  the start of the content to write
+     * @param length the length of the content to write
+     */
+    @ApiStatus.Internal
+    public void writeShared(@NotNull ByteBuffer buffer, int index, int length) {
+        this.workerQueue.relaxedOffer(() -> {
+            writeLatestPackets();
+            writeSharedSync(buffer, index, length);
+        });
+    }
+
+    /**
+     * Changes the number of bytes which can wait to be sent to this connection before applying {@code policy}.
+     *
+     * @param limit  the outbound limit in bytes
+     * @param policy the policy applied once {@code limit} is exceeded
+     */
+    public void setOutboundLimit(int limit, @NotNull OutboundPolicy policy) {
+        Check.argCondition(limit <= 0, "The outbound limit must be positive");
+        this.outboundLimit = limit;
+        this.outboundPolicy = policy;
+    }
+
+    /**
+     * Gets the metrics of the data waiting to be sent to this connection.
+     *
+     * @return the outbound metrics
+     */
+    public @NotNull OutboundMetrics outboundMetrics() {
+        return new OutboundMetrics(pendingBytes, peakPendingBytes, droppedPackets, supersededPackets);
+    }
+
+    /**
+     * Gets if the droppable packets sent to this connection are currently skipped.
+     * <p>
+     * Used by the packets written in bulk, e.g. the ones grouped for the viewers of an entity or chunk.
+     *
+     * @return true if the connection exceeds its outbound limit with the {@link OutboundPolicy#DROP} policy
+     */
+    @ApiStatus.Internal
+    public boolean isDropping() {
+        return outboundPolicy == OutboundPolicy.DROP && pendingBytes > outboundLimit;
+    }
+
+    /**
+     * Accounts for droppable packets skipped before reaching this connection.
+     *
+     * @param count the number of skipped packets
+     */
+    @ApiStatus.Internal
+    public void countDropped(int count) {
+        this.workerQueue.relaxedOffer(() -> this.droppedPackets += count);
+    }
+
+    /**
+     * Gets if a packet can be skipped when a connection does not keep up.
+     *
+     * @param packet the packet to check
+     * @return true if the packet is droppable
+     * @see #isDropping()
+     */
+    @ApiStatus.Internal
+    public static boolean isDroppable(@NotNull ServerPacket packet) {
+        return DROPPABLE_PACKETS.contains(packet.getClass());
+    }
+
     @Override
     public @NotNull SocketAddress getRemoteAddress() {
         return remoteAddress;
@@ -203,8 +391,12 @@ public class PlayerSocketConnection extends PlayerConnection {
             this.worker.disconnect(this, channel);
             final BinaryBuffer tick = tickBuffer.getAndSet(null);
             if (tick != null) POOL.add(tick);
-            for (BinaryBuffer buffer : waitingBuffers) POOL.add(buffer);
-            this.waitingBuffers.clear();
+            for (PendingWrite write : pendingWrites) {
+                if (write.release() != null) POOL.add(write.release());
+            }
+            this.pendingWrites.clear();
+            this.latestPackets.clear();
+            this.pendingBytes = 0;
         });
     }
 
@@ -335,23 +527,43 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private void writePacketSync(SendablePacket packet, boolean compressed) {
         if (!channel.isConnected()) return;
+        final ServerPacket serverPacket = SendablePacket.extractServerPacket(packet);
         final Player player = getPlayer();
         // Outgoing event
         if (player != null && outgoing.hasListener()) {
-            final ServerPacket serverPacket = SendablePacket.extractServerPacket(packet);
             PlayerPacketOutEvent event = new PlayerPacketOutEvent(player, serverPacket);
             outgoing.call(event);
             if (event.isCancelled()) return;
         }
-        // Write packet
+        if (serverPacket instanceof SupersedablePacket supersedable) {
+            // Written before the next packet, or once the client keeps up
+            final Object key = PacketUtils.supersedeKey(supersedable);
+            // Moved last, the replacement happened after the other pending updates
+            final LatestPacket previous = latestPackets.remove(key);
+            this.latestPackets.put(key, new LatestPacket(packet, compressed));
+            if (previous != null) this.supersededPackets++;
+            return;
+        }
+        if (isDropping() && isDroppable(serverPacket)) {
+            // The client does not keep up, skip the packet
+            this.droppedPackets++;
+            return;
+        }
+        // Keep the order with the previous packets, even over the limit
+        // e.g. a held velocity must not be written after the entity has been destroyed
+        writeLatestPackets();
+        writeSendablePacketSync(packet, compressed);
+    }
+
+    private void writeSendablePacketSync(SendablePacket packet, boolean compressed) {
         if (packet instanceof ServerPacket serverPacket) {
             writeServerPacketSync(serverPacket, compressed);
         } else if (packet instanceof FramedPacket framedPacket) {
             var buffer = framedPacket.body();
-            writeBufferSync(buffer, 0, buffer.limit());
+            writeSharedSync(buffer, 0, buffer.limit());
         } else if (packet instanceof CachedPacket cachedPacket) {
             var buffer = cachedPacket.body();
-            if (buffer != null) writeBufferSync(buffer, buffer.position(), buffer.remaining());
+            if (buffer != null) writeSharedSync(buffer, buffer.position(), buffer.remaining());
             else writeServerPacketSync(cachedPacket.packet(), compressed);
         } else if (packet instanceof LazyPacket lazyPacket) {
             writeServerPacketSync(lazyPacket.packet(), compressed);
@@ -362,11 +574,9 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private void writeServerPacketSync(ServerPacket serverPacket, boolean compressed) {
         final Player player = getPlayer();
-        if (player != null) {
-            if (MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION && serverPacket instanceof ComponentHoldingServerPacket) {
-                serverPacket = ((ComponentHoldingServerPacket) serverPacket).copyWithOperator(component ->
-                        GlobalTranslator.render(component, Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale)));
-            }
+        if (player != null && PacketUtils.shouldTranslate(serverPacket)) {
+            // Sent to this player only, grouped sends are translated through the shared cache beforehand
+            serverPacket = PacketUtils.translate((ComponentHoldingServerPacket) serverPacket, player);
         }
         try (var hold = ObjectPool.PACKET_POOL.hold()) {
             var buffer = PacketUtils.createFramedPacket(hold.get(), serverPacket, compressed);
@@ -392,10 +602,25 @@ public class PlayerSocketConnection extends PlayerConnection {
         writeBufferSync0(buffer, index, length);
     }
 
+    private void writeSharedSync(@NotNull ByteBuffer buffer, int index, int length) {
+        // Encrypted data is specific to the connection, copy it
+        if (length < ZERO_COPY_THRESHOLD || encryptionContext != null) {
+            writeBufferSync(buffer, index, length);
+            return;
+        }
+        if (tickBuffer.getPlain() == null)
+            return; // Socket is closed
+        if (!reserve(length)) return;
+        // Keep the order with the data already written in the tick buffer
+        queueTickBuffer(null);
+        this.pendingWrites.add(new PendingWrite(buffer.slice(index, length), null));
+    }
+
     private void writeBufferSync0(@NotNull ByteBuffer buffer, int index, int length) {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
         if (localBuffer == null)
             return; // Socket is closed
+        if (!reserve(length)) return;
         final int capacity = localBuffer.capacity();
         if (length <= capacity) {
             if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
@@ -413,32 +638,143 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     public void flushSync() throws IOException {
         final SocketChannel channel = this.channel;
-        final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
         if (!channel.isConnected()) throw new ClosedChannelException();
-        if (waitingBuffers.isEmpty()) {
-            BinaryBuffer localBuffer = tickBuffer.getPlain();
-            if (localBuffer == null)
-                return; // Socket is closed
-            localBuffer.writeChannel(channel);
+        // Held while over the limit to be replaced by more recent ones
+        // may replace the tick buffer, must be done before retrieving it
+        if (pendingBytes <= outboundLimit) writeLatestPackets();
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null)
+            return; // Socket is closed
+        queueTickBuffer(null);
+        final ArrayDeque<PendingWrite> pendingWrites = this.pendingWrites;
+        if (pendingWrites.isEmpty()) return;
+        // Write as much as possible with a single gathering write
+        final long written;
+        if (pendingWrites.size() == 1) {
+            written = channel.write(pendingWrites.peekFirst().buffer());
         } else {
-            // Write as much as possible from the waiting list
-            Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
-            while (iterator.hasNext()) {
-                BinaryBuffer waitingBuffer = iterator.next();
-                if (!waitingBuffer.writeChannel(channel)) break;
-                iterator.remove();
-                POOL.add(waitingBuffer);
+            final ByteBuffer[] buffers = this.gatheredBuffers;
+            int count = 0;
+            for (PendingWrite write : pendingWrites) {
+                buffers[count++] = write.buffer();
+                if (count == buffers.length) break;
             }
+            try {
+                written = channel.write(buffers, 0, count);
+            } finally {
+                Arrays.fill(buffers, 0, count, null);
+            }
+        }
+        // Release the fully written buffers
+        PendingWrite write;
+        while ((write = pendingWrites.peekFirst()) != null && !write.buffer().hasRemaining()) {
+            pendingWrites.pollFirst();
+            if (write.release() != null) POOL.add(write.release());
+        }
+        if (pendingWrites.isEmpty()) {
+            // Everything has been sent, the tick buffer can be reused from the start
+            localBuffer.clear();
+            this.tickBufferQueued = 0;
+            this.pendingBytes = 0;
+        } else {
+            this.pendingBytes -= written;
+        }
+    }
+
+    /**
+     * Writes the pending supersedable packets, must be called before writing anything else to keep the order.
+     */
+    private void writeLatestPackets() {
+        if (latestPackets.isEmpty()) return;
+        for (LatestPacket latest : latestPackets.values()) {
+            writeSendablePacketSync(latest.packet(), latest.compressed());
         }
+        this.latestPackets.clear();
+    }
+
+    /**
+     * Accounts for data about to be written, closing the connection if it exceeds its outbound budget.
+     *
+     * @param length the number of bytes to write
+     * @return true if the data can be written
+     */
+    private boolean reserve(int length) {
+        if (overflowed) return false;
+        final long pending = this.pendingBytes + length;
+        final long limit = outboundPolicy == OutboundPolicy.DISCONNECT ?
+                outboundLimit : Math.max(outboundLimit, OUTBOUND_HARD_LIMIT);
+        if (pending > limit) {
+            this.overflowed = true;
+            LOGGER.warn("Disconnecting {}, {} bytes are waiting to be sent", remoteAddress, pending);
+            disconnect();
+            return false;
+        }
+        this.pendingBytes = pending;
+        if (pending > peakPendingBytes) this.peakPendingBytes = pending;
+        return true;
+    }
+
+    /**
+     * Moves the content of the tick buffer not yet queued to the pending writes.
+     *
+     * @param release the buffer to return to the pool once written, null if none
+     */
+    private void queueTickBuffer(@Nullable BinaryBuffer release) {
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        final int end = localBuffer.writerOffset();
+        if (end == tickBufferQueued && release == null) return;
+        this.pendingWrites.add(new PendingWrite(localBuffer.asByteBuffer(tickBufferQueued, end - tickBufferQueued), release));
+        this.tickBufferQueued = end;
     }
 
     private BinaryBuffer updateLocalBuffer() {
+        queueTickBuffer(tickBuffer.getPlain());
         BinaryBuffer newBuffer = POOL.get();
-        this.waitingBuffers.add(tickBuffer.getPlain());
         this.tickBuffer.setPlain(newBuffer);
+        this.tickBufferQueued = 0;
         return newBuffer;
     }
 
+    /**
+     * @param buffer  the content to write, either a slice of a pooled buffer or a shared immutable buffer
+     * @param release the pooled buffer to return once {@code buffer} is written, null if none
+     */
+    private record PendingWrite(ByteBuffer buffer, @Nullable BinaryBuffer release) {
+    }
+
+    private record LatestPacket(SendablePacket packet, boolean compressed) {
+    }
+
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
     }
+
+    /**
+     * What to do once a connection has more data waiting to be sent than its outbound limit.
+     * <p>
+     * {@link SupersedablePacket}s are not subject to the policy, they are held until another packet is written
+     * or the connection catches up, and only the most recent one of each key is sent.
+     */
+    public enum OutboundPolicy {
+        /**
+         * Skips the droppable packets (particles and sounds) while over the limit,
+         * the connection is only closed past the {@code minestom.outbound-hard-limit} property.
+         */
+        DROP,
+        /**
+         * Closes the connection as soon as the limit is exceeded.
+         */
+        DISCONNECT
+    }
+
+    /**
+     * Metrics of the data waiting to be sent to a connection.
+     *
+     * @param pendingBytes      the number of bytes not yet written to the socket
+     * @param peakPendingBytes  the highest number of bytes which have been waiting at once
+     * @param droppedPackets    the total number of packets skipped because the connection exceeded its outbound limit
+     * @param supersededPackets the total number of packets replaced by a more recent one before being written
+     */
+    public record OutboundMetrics(long pendingBytes, long peakPendingBytes,
+                                  long droppedPackets, long supersededPackets) {
+    }
 }
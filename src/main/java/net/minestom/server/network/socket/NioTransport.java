@@ -0,0 +1,68 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.function.Consumer;
+
+final class NioTransport implements Transport {
+    private final Selector selector;
+    private ServerSocketChannel serverSocket;
+    private volatile boolean stop;
+
+    NioTransport() {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public @NotNull SocketAddress bind(@NotNull SocketAddress address) throws IOException {
+        ServerSocketChannel server = ServerSocketChannel.open(Server.protocolFamily(address));
+        server.bind(address);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        this.serverSocket = server;
+        return server.getLocalAddress();
+    }
+
+    @Override
+    public void start(@NotNull Consumer<@NotNull SocketChannel> acceptor) {
+        new Thread(() -> {
+            while (!stop) {
+                // Busy wait for connections
+                try {
+                    this.selector.select(key -> {
+                        if (!key.isAcceptable()) return;
+                        try {
+                            final SocketChannel client = serverSocket.accept();
+                            if (client != null) acceptor.accept(client);
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                        }
+                    });
+                } catch (IOException e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }
+        }, "Ms-entrypoint").start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.stop = true;
+        try {
+            if (serverSocket != null) this.serverSocket.close();
+        } finally {
+            this.selector.wakeup();
+        }
+    }
+}
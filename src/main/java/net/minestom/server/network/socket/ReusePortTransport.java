@@ -0,0 +1,82 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Binds one blocking server socket per acceptor thread on the same address using {@code SO_REUSEPORT},
+ * the kernel then distributes incoming connections between them.
+ */
+final class ReusePortTransport implements Transport {
+    private final int acceptors;
+    private final List<ServerSocketChannel> serverSockets = new ArrayList<>();
+
+    ReusePortTransport(int acceptors) {
+        if (acceptors < 1) throw new IllegalArgumentException("Acceptor count must be positive");
+        this.acceptors = acceptors;
+    }
+
+    @Override
+    public @NotNull SocketAddress bind(@NotNull SocketAddress address) throws IOException {
+        ServerSocketChannel first = ServerSocketChannel.open(Server.protocolFamily(address));
+        final boolean reusePort = address instanceof InetSocketAddress &&
+                first.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT);
+        if (reusePort) first.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+        first.bind(address);
+        this.serverSockets.add(first);
+        // Other sockets must use the port chosen by the first one
+        final SocketAddress boundAddress = first.getLocalAddress();
+        if (reusePort) {
+            for (int i = 1; i < acceptors; i++) {
+                ServerSocketChannel server = ServerSocketChannel.open(Server.protocolFamily(address));
+                server.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+                server.bind(boundAddress);
+                this.serverSockets.add(server);
+            }
+        }
+        return boundAddress;
+    }
+
+    @Override
+    public void start(@NotNull Consumer<@NotNull SocketChannel> acceptor) {
+        for (int i = 0; i < serverSockets.size(); i++) {
+            final ServerSocketChannel server = serverSockets.get(i);
+            new Thread(() -> {
+                while (server.isOpen()) {
+                    try {
+                        acceptor.accept(server.accept());
+                    } catch (ClosedChannelException e) {
+                        break; // Transport closed
+                    } catch (IOException e) {
+                        MinecraftServer.getExceptionManager().handleException(e);
+                    }
+                }
+            }, "Ms-entrypoint-" + i).start();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException exception = null;
+        for (ServerSocketChannel server : serverSockets) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                if (exception == null) exception = e;
+                else exception.addSuppressed(e);
+            }
+        }
+        if (exception != null) throw exception;
+    }
+}
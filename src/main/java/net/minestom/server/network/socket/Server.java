@@ -7,13 +7,10 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.net.*;
-import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
-import java.nio.channels.ServerSocketChannel;
-import java.nio.channels.SocketChannel;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class Server {
     public static final int WORKER_COUNT = Integer.getInteger("minestom.workers", Runtime.getRuntime().availableProcessors());
@@ -25,18 +22,23 @@ public final class Server {
 
     private volatile boolean stop;
 
-    private final Selector selector = Selector.open();
+    private final Transport transport;
     private final PacketProcessor packetProcessor;
     private final List<Worker> workers;
-    private int index;
+    private final AtomicInteger index = new AtomicInteger();
 
-    private ServerSocketChannel serverSocket;
+    private boolean bound;
     private SocketAddress socketAddress;
     private String address;
     private int port;
 
     public Server(PacketProcessor packetProcessor) throws IOException {
+        this(packetProcessor, Transport.defaultTransport());
+    }
+
+    public Server(PacketProcessor packetProcessor, Transport transport) throws IOException {
         this.packetProcessor = packetProcessor;
+        this.transport = transport;
         Worker[] workers = new Worker[WORKER_COUNT];
         Arrays.setAll(workers, value -> new Worker(this));
         this.workers = List.of(workers);
@@ -44,54 +46,36 @@ public final class Server {
 
     @ApiStatus.Internal
     public void init(SocketAddress address) throws IOException {
-        ProtocolFamily family;
         if (address instanceof InetSocketAddress inetSocketAddress) {
             this.address = inetSocketAddress.getHostString();
             this.port = inetSocketAddress.getPort();
-            family = inetSocketAddress.getAddress().getAddress().length == 4 ? StandardProtocolFamily.INET : StandardProtocolFamily.INET6;
         } else if (address instanceof UnixDomainSocketAddress unixDomainSocketAddress) {
             this.address = "unix://" + unixDomainSocketAddress.getPath();
             this.port = 0;
-            family = StandardProtocolFamily.UNIX;
         } else {
             throw new IllegalArgumentException("Address must be an InetSocketAddress or a UnixDomainSocketAddress");
         }
 
-        ServerSocketChannel server = ServerSocketChannel.open(family);
-        server.bind(address);
-        server.configureBlocking(false);
-        server.register(selector, SelectionKey.OP_ACCEPT);
-        this.serverSocket = server;
+        final SocketAddress boundAddress = transport.bind(address);
+        this.bound = true;
         this.socketAddress = address;
 
-        if (address instanceof InetSocketAddress && port == 0) {
-            port = server.socket().getLocalPort();
+        if (boundAddress instanceof InetSocketAddress inetSocketAddress && port == 0) {
+            port = inetSocketAddress.getPort();
         }
     }
 
     @ApiStatus.Internal
     public void start() {
         this.workers.forEach(Thread::start);
-        new Thread(() -> {
-            while (!stop) {
-                // Busy wait for connections
-                try {
-                    this.selector.select(key -> {
-                        if (!key.isAcceptable()) return;
-                        try {
-                            // Register socket and forward to thread
-                            Worker worker = findWorker();
-                            final SocketChannel client = serverSocket.accept();
-                            worker.receiveConnection(client);
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    });
-                } catch (IOException e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
+        this.transport.start(client -> {
+            try {
+                // Register socket and forward to thread
+                findWorker().receiveConnection(client);
+            } catch (IOException e) {
+                e.printStackTrace();
             }
-        }, "Ms-entrypoint").start();
+        });
     }
 
     public boolean isOpen() {
@@ -101,8 +85,8 @@ public final class Server {
     public void stop() {
         this.stop = true;
         try {
-            if(serverSocket != null) {
-                this.serverSocket.close();
+            if (bound) {
+                this.transport.close();
             }
 
             if (socketAddress instanceof UnixDomainSocketAddress unixDomainSocketAddress) {
@@ -111,10 +95,13 @@ public final class Server {
         } catch (IOException e) {
             MinecraftServer.getExceptionManager().handleException(e);
         }
-        this.selector.wakeup();
         this.workers.forEach(worker -> worker.selector.wakeup());
     }
 
+    public @NotNull Transport transport() {
+        return transport;
+    }
+
     @ApiStatus.Internal
     public @NotNull PacketProcessor packetProcessor() {
         return packetProcessor;
@@ -133,7 +120,15 @@ public final class Server {
     }
 
     private Worker findWorker() {
-        this.index = ++index % WORKER_COUNT;
-        return workers.get(index);
+        return workers.get(Math.floorMod(index.incrementAndGet(), WORKER_COUNT));
+    }
+
+    static ProtocolFamily protocolFamily(SocketAddress address) {
+        if (address instanceof InetSocketAddress inetSocketAddress) {
+            return inetSocketAddress.getAddress().getAddress().length == 4 ? StandardProtocolFamily.INET : StandardProtocolFamily.INET6;
+        } else if (address instanceof UnixDomainSocketAddress) {
+            return StandardProtocolFamily.UNIX;
+        }
+        throw new IllegalArgumentException("Address must be an InetSocketAddress or a UnixDomainSocketAddress");
     }
 }
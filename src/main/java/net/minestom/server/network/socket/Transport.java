@@ -0,0 +1,80 @@
+package net.minestom.server.network.socket;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Accepts the client connections of a {@link Server}, accepted channels are then handled by the workers.
+ */
+@ApiStatus.Experimental
+public interface Transport {
+    /**
+     * Name of the transport used by default, either "nio" or "reuseport".
+     */
+    String DEFAULT_TRANSPORT = System.getProperty("minestom.transport", "nio");
+    int ACCEPTOR_COUNT = Integer.getInteger("minestom.acceptors", Math.max(1, Runtime.getRuntime().availableProcessors() / 4));
+
+    /**
+     * Creates the default transport, based on the {@code minestom.transport} property.
+     *
+     * @return a new transport
+     */
+    static @NotNull Transport defaultTransport() {
+        return switch (DEFAULT_TRANSPORT.toLowerCase(Locale.ROOT)) {
+            case "nio" -> nio();
+            case "reuseport" -> reusePort(ACCEPTOR_COUNT);
+            default -> throw new IllegalArgumentException("Unknown transport: " + DEFAULT_TRANSPORT);
+        };
+    }
+
+    /**
+     * Creates a transport accepting connections from a single thread using a {@link java.nio.channels.Selector}.
+     *
+     * @return a new nio transport
+     */
+    static @NotNull Transport nio() {
+        return new NioTransport();
+    }
+
+    /**
+     * Creates a transport binding one socket per acceptor thread with {@code SO_REUSEPORT},
+     * letting the kernel balance the connections.
+     * <p>
+     * Falls back to a single acceptor if the option is not supported (e.g. on Windows or for unix sockets).
+     *
+     * @param acceptors the number of acceptor threads
+     * @return a new reuse port transport
+     */
+    static @NotNull Transport reusePort(int acceptors) {
+        return new ReusePortTransport(acceptors);
+    }
+
+    /**
+     * Binds the transport.
+     *
+     * @param address the address to listen to
+     * @return the bound address, differs from {@code address} if it uses a dynamic port
+     * @throws IOException if the address cannot be bound
+     */
+    @NotNull SocketAddress bind(@NotNull SocketAddress address) throws IOException;
+
+    /**
+     * Starts accepting connections.
+     *
+     * @param acceptor the consumer of accepted connections, may be called from multiple threads
+     */
+    void start(@NotNull Consumer<@NotNull SocketChannel> acceptor);
+
+    /**
+     * Stops accepting connections and releases the bound sockets.
+     *
+     * @throws IOException if a socket cannot be closed
+     */
+    void close() throws IOException;
+}
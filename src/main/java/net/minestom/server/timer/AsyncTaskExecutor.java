@@ -0,0 +1,107 @@
+package net.minestom.server.timer;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerProcess;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the {@link ExecutionType#ASYNC} tasks of a single scheduler.
+ * <p>
+ * Tasks are queued locally and drained by at most {@code parallelism} workers on the backing executor,
+ * preventing a single scheduler from monopolizing a shared pool.
+ */
+final class AsyncTaskExecutor {
+    static final int THREAD_COUNT = Integer.getInteger("minestom.scheduler.async-threads",
+            Runtime.getRuntime().availableProcessors());
+    static final int PARALLELISM = Integer.getInteger("minestom.scheduler.async-parallelism",
+            Math.max(1, THREAD_COUNT / 2));
+    // Tasks run by a worker before yielding its thread to other schedulers
+    private static final int DRAIN_BATCH = 32;
+
+    static final Executor DEFAULT_EXECUTOR = new ForkJoinPool(THREAD_COUNT, pool -> {
+        var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Ms-Scheduler-Async-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }, null, true);
+
+    private final Executor executor;
+    private final int parallelism;
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    AsyncTaskExecutor(@NotNull Executor executor, int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    void execute(@NotNull Runnable runnable) {
+        // Counted before being visible to the workers, which decrement it once polled
+        this.queued.incrementAndGet();
+        this.queue.offer(new Entry(runnable, System.nanoTime()));
+        tryDispatch();
+    }
+
+    @NotNull Scheduler.AsyncMetrics metrics() {
+        final long completed = this.completed.sum();
+        final long average = completed != 0 ? totalLatency.sum() / completed : 0;
+        return new Scheduler.AsyncMetrics(queued.get(), running.get(), completed,
+                average, maxLatency.get());
+    }
+
+    private void tryDispatch() {
+        int current;
+        while ((current = running.get()) < parallelism && !queue.isEmpty()) {
+            if (!running.compareAndSet(current, current + 1)) continue;
+            try {
+                this.executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                this.running.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Entry entry;
+            int count = 0;
+            while (count++ < DRAIN_BATCH && (entry = queue.poll()) != null) {
+                this.queued.decrementAndGet();
+                final long latency = System.nanoTime() - entry.submitTime;
+                this.totalLatency.add(latency);
+                this.maxLatency.accumulateAndGet(latency, Math::max);
+                try {
+                    entry.runnable.run();
+                } catch (Throwable t) {
+                    // Standalone schedulers may run without a server process
+                    final ServerProcess process = MinecraftServer.process();
+                    if (process != null) process.exception().handleException(t);
+                    else t.printStackTrace();
+                }
+                this.completed.increment();
+            }
+        } finally {
+            this.running.decrementAndGet();
+        }
+        // Tasks may have been offered while this worker was exiting
+        if (!queue.isEmpty()) tryDispatch();
+    }
+
+    private record Entry(Runnable runnable, long submitTime) {
+    }
+}
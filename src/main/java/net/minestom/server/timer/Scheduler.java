@@ -2,6 +2,7 @@ package net.minestom.server.timer;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -9,12 +10,28 @@ import java.util.function.Supplier;
  * If precision is important, consider using a JDK executor service or any third party library.
  * <p>
  * Tasks are by default executed in the caller thread.
+ * {@link ExecutionType#ASYNC} tasks run on a dedicated pool shared by all schedulers,
+ * each scheduler being limited in the number of threads it can occupy at once.
  */
 public sealed interface Scheduler permits SchedulerImpl, SchedulerManager {
     static @NotNull Scheduler newScheduler() {
         return new SchedulerImpl();
     }
 
+    /**
+     * Creates a scheduler running its {@link ExecutionType#ASYNC} tasks on {@code asyncExecutor}.
+     * <p>
+     * At most {@code asyncParallelism} tasks of the scheduler are executed concurrently,
+     * the others are queued locally without occupying the executor.
+     *
+     * @param asyncExecutor    the executor used for async tasks, can be virtual-thread based
+     * @param asyncParallelism the maximum number of async tasks running at once
+     * @return a new scheduler
+     */
+    static @NotNull Scheduler newScheduler(@NotNull Executor asyncExecutor, int asyncParallelism) {
+        return new SchedulerImpl(asyncExecutor, asyncParallelism);
+    }
+
     /**
      * Process scheduled tasks based on time to increase scheduling precision.
      * <p>
@@ -42,6 +59,13 @@ public sealed interface Scheduler permits SchedulerImpl, SchedulerManager {
      */
     @NotNull Task submitTask(@NotNull Supplier<TaskSchedule> task, @NotNull ExecutionType executionType);
 
+    /**
+     * Gets a snapshot of the state of the {@link ExecutionType#ASYNC} tasks of this scheduler.
+     *
+     * @return the async execution metrics
+     */
+    @NotNull AsyncMetrics asyncMetrics();
+
     default @NotNull Task submitTask(@NotNull Supplier<TaskSchedule> task) {
         return submitTask(task, ExecutionType.SYNC);
     }
@@ -75,4 +99,17 @@ public sealed interface Scheduler permits SchedulerImpl, SchedulerManager {
     default @NotNull Task scheduleNextProcess(@NotNull Runnable task) {
         return scheduleNextProcess(task, ExecutionType.SYNC);
     }
+
+    /**
+     * Execution metrics of async tasks.
+     *
+     * @param queued              the number of tasks waiting for a thread
+     * @param running             the number of workers currently draining the queue
+     * @param completed           the number of executed tasks
+     * @param averageLatencyNanos the average time between submission and execution start
+     * @param maxLatencyNanos     the maximum time between submission and execution start
+     */
+    record AsyncMetrics(int queued, int running, long completed,
+                        long averageLatencyNanos, long maxLatencyNanos) {
+    }
 }
@@ -7,8 +7,8 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -21,14 +21,22 @@ final class SchedulerImpl implements Scheduler {
         thread.setDaemon(true);
         return thread;
     });
-    private static final ForkJoinPool EXECUTOR = ForkJoinPool.commonPool();
 
+    private final AsyncTaskExecutor asyncExecutor;
     private final MpscUnboundedArrayQueue<TaskImpl> taskQueue = new MpscUnboundedArrayQueue<>(64);
     // Tasks scheduled on a certain tick
     private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickTaskQueue = new Int2ObjectAVLTreeMap<>();
 
     private int tickState;
 
+    SchedulerImpl(@NotNull Executor asyncExecutor, int asyncParallelism) {
+        this.asyncExecutor = new AsyncTaskExecutor(asyncExecutor, asyncParallelism);
+    }
+
+    SchedulerImpl() {
+        this(AsyncTaskExecutor.DEFAULT_EXECUTOR, AsyncTaskExecutor.PARALLELISM);
+    }
+
     @Override
     public void process() {
         processTick(0);
@@ -54,7 +62,7 @@ final class SchedulerImpl implements Scheduler {
                 if (!task.isAlive()) return;
                 switch (task.executionType()) {
                     case SYNC -> handleTask(task);
-                    case ASYNC -> EXECUTOR.submit(() -> handleTask(task));
+                    case ASYNC -> asyncExecutor.execute(() -> handleTask(task));
                 }
             });
         }
@@ -69,6 +77,11 @@ final class SchedulerImpl implements Scheduler {
         return taskRef;
     }
 
+    @Override
+    public @NotNull AsyncMetrics asyncMetrics() {
+        return asyncExecutor.metrics();
+    }
+
     void unparkTask(TaskImpl task) {
         if (task.tryUnpark())
             this.taskQueue.relaxedOffer(task);
@@ -79,7 +92,7 @@ final class SchedulerImpl implements Scheduler {
         // By either adding the task to the execution queue or submitting it to the pool
         switch (task.executionType()) {
             case SYNC -> taskQueue.offer(task);
-            case ASYNC -> EXECUTOR.submit(() -> {
+            case ASYNC -> asyncExecutor.execute(() -> {
                 if (!task.isAlive()) {
                     return;
                 }
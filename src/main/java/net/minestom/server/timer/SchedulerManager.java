@@ -25,6 +25,11 @@ public final class SchedulerManager implements Scheduler {
         return scheduler.submitTask(task, executionType);
     }
 
+    @Override
+    public @NotNull AsyncMetrics asyncMetrics() {
+        return scheduler.asyncMetrics();
+    }
+
     public void shutdown() {
         this.shutdownTasks.drain(Runnable::run);
     }
@@ -10,6 +10,7 @@ import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.translation.GlobalTranslator;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.Viewable;
 import net.minestom.server.adventure.ComponentHolder;
@@ -28,8 +29,15 @@ import org.jetbrains.annotations.Nullable;
 
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.zip.DataFormatException;
@@ -53,6 +61,8 @@ public final class PacketUtils {
 
     // Viewable packets
     private static final Cache<Viewable, ViewableStorage> VIEWABLE_STORAGE_MAP = Caffeine.newBuilder().weakKeys().build();
+    // Translated packets, rendered and encoded once per locale
+    private static final Cache<ComponentHoldingServerPacket, Map<Locale, CachedPacket>> TRANSLATED_PACKETS = Caffeine.newBuilder().weakKeys().build();
 
     private PacketUtils() {
     }
@@ -101,6 +111,19 @@ public final class PacketUtils {
      */
     public static void sendGroupedPacket(@NotNull Collection<Player> players, @NotNull ServerPacket packet,
                                          @NotNull Predicate<Player> predicate) {
+        if (shouldTranslate(packet)) {
+            if (players.size() == 1) {
+                // Translated by the connection, caching the rendered packet would be useless
+                final Player player = players.iterator().next();
+                if (predicate.test(player)) player.sendPacket(packet);
+                return;
+            }
+            final ComponentHoldingServerPacket holder = (ComponentHoldingServerPacket) packet;
+            players.forEach(player -> {
+                if (predicate.test(player)) player.sendPacket(translatedPacket(holder, player));
+            });
+            return;
+        }
         final var sendablePacket = shouldUseCachePacket(packet) ? new CachedPacket(packet) : packet;
 
         players.forEach(player -> {
@@ -121,6 +144,56 @@ public final class PacketUtils {
         return !containsTranslatableComponents(holder);
     }
 
+    /**
+     * Checks if the {@link ServerPacket} must be rendered for the locale of each player.
+     *
+     * @see #translatedPacket(ComponentHoldingServerPacket, Player)
+     */
+    @ApiStatus.Internal
+    public static boolean shouldTranslate(final @NotNull ServerPacket packet) {
+        return MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION &&
+                packet instanceof ComponentHoldingServerPacket holder && containsTranslatableComponents(holder);
+    }
+
+    /**
+     * Gets the packet rendered for the locale of a player.
+     * <p>
+     * Rendered packets are cached per locale as long as the original packet is referenced,
+     * a packet sent to many players is therefore only rendered and encoded once per locale.
+     *
+     * @param packet the packet to translate
+     * @param player the player to translate the packet for
+     * @return the translated packet
+     */
+    @ApiStatus.Internal
+    public static @NotNull CachedPacket translatedPacket(@NotNull ComponentHoldingServerPacket packet, @NotNull Player player) {
+        final Locale locale = locale(player);
+        final Map<Locale, CachedPacket> packets = TRANSLATED_PACKETS.get(packet, unused -> new ConcurrentHashMap<>());
+        return packets.computeIfAbsent(locale, l -> new CachedPacket(translate(packet, l)));
+    }
+
+    /**
+     * Renders a packet for the locale of a player, without caching the result.
+     * <p>
+     * Used for packets sent to a single player, where the cache would never be hit.
+     *
+     * @param packet the packet to translate
+     * @param player the player to translate the packet for
+     * @return the translated packet
+     */
+    @ApiStatus.Internal
+    public static @NotNull ServerPacket translate(@NotNull ComponentHoldingServerPacket packet, @NotNull Player player) {
+        return translate(packet, locale(player));
+    }
+
+    private static @NotNull ServerPacket translate(@NotNull ComponentHoldingServerPacket packet, @NotNull Locale locale) {
+        return packet.copyWithOperator(component -> GlobalTranslator.render(component, locale));
+    }
+
+    private static @NotNull Locale locale(@NotNull Player player) {
+        return Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale);
+    }
+
     private static boolean containsTranslatableComponents(final @NotNull ComponentHolder<?> holder) {
         for (final Component component : holder.components()) {
             if (isTranslatable(component)) return true;
@@ -178,6 +251,17 @@ public final class PacketUtils {
         prepareViewablePacket(viewable, serverPacket, null);
     }
 
+    /**
+     * Gets the key identifying the pending packets {@code packet} replaces.
+     *
+     * @param packet the supersedable packet
+     * @return a key equal to the ones of the packets with the same type and {@link SupersedablePacket#supersedeKey()}
+     */
+    @ApiStatus.Internal
+    public static @NotNull Object supersedeKey(@NotNull SupersedablePacket packet) {
+        return new SupersedeKey(packet.getClass(), packet.supersedeKey());
+    }
+
     @ApiStatus.Internal
     public static void flush() {
         if (VIEWABLE_PACKET) {
@@ -315,12 +399,47 @@ public final class PacketUtils {
         }
     }
 
+    private record SupersedeKey(Class<?> type, int key) {
+    }
+
     private static final class ViewableStorage {
         // Player id -> list of offsets to ignore (32:32 bits)
         private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
         private final BinaryBuffer buffer = ObjectPool.BUFFER_POOL.getAndRegister(this);
+        // Supersedable packets, only the latest of each key is appended before the next packet
+        private final Map<Object, LatestPacket> latestPackets = new LinkedHashMap<>();
+        // Packets rendered for the locale of each viewer, sent at their offset in the buffer
+        private final List<TranslatedPacket> translatedPackets = new ArrayList<>();
+        // Offsets of the droppable packets (32:32 bits), skipped for the viewers not keeping up
+        private final LongArrayList droppableRanges = new LongArrayList();
 
         private synchronized void append(Viewable viewable, ServerPacket serverPacket, Player player) {
+            if (serverPacket instanceof SupersedablePacket supersedable) {
+                final Object key = supersedeKey(supersedable);
+                // Moved last, the replacement happened after the other pending updates
+                this.latestPackets.remove(key);
+                this.latestPackets.put(key, new LatestPacket(serverPacket, player));
+                return;
+            }
+            // Keep the order with the previous packets
+            appendLatestPackets(viewable);
+            if (shouldTranslate(serverPacket)) {
+                this.translatedPackets.add(new TranslatedPacket(buffer.writerOffset(),
+                        (ComponentHoldingServerPacket) serverPacket, player));
+                return;
+            }
+            appendFramed(viewable, serverPacket, player);
+        }
+
+        private void appendLatestPackets(Viewable viewable) {
+            if (latestPackets.isEmpty()) return;
+            // Cleared first, appending may process the storage
+            final List<LatestPacket> latest = List.copyOf(latestPackets.values());
+            this.latestPackets.clear();
+            for (LatestPacket packet : latest) appendFramed(viewable, packet.packet(), packet.exception());
+        }
+
+        private void appendFramed(Viewable viewable, ServerPacket serverPacket, Player player) {
             try (var hold = ObjectPool.PACKET_POOL.hold()) {
                 final ByteBuffer framedPacket = createFramedPacket(hold.get(), serverPacket);
                 final int packetSize = framedPacket.limit();
@@ -337,42 +456,81 @@ public final class PacketUtils {
                 final int start = buffer.writerOffset();
                 this.buffer.write(framedPacket);
                 final int end = buffer.writerOffset();
+                final long offsets = (long) start << 32 | end & 0xFFFFFFFFL;
                 if (player != null) {
-                    final long offsets = (long) start << 32 | end & 0xFFFFFFFFL;
                     LongList list = entityIdMap.computeIfAbsent(player.getEntityId(), id -> new LongArrayList());
                     list.add(offsets);
                 }
+                if (PlayerSocketConnection.isDroppable(serverPacket)) this.droppableRanges.add(offsets);
             }
         }
 
         private synchronized void process(Viewable viewable) {
-            if (buffer.writerOffset() == 0) return;
+            appendLatestPackets(viewable);
+            if (buffer.writerOffset() == 0 && translatedPackets.isEmpty()) return;
             ByteBuffer copy = ByteBuffer.allocateDirect(buffer.writerOffset());
             copy.put(buffer.asByteBuffer(0, copy.capacity()));
             viewable.getViewers().forEach(player -> processPlayer(player, copy));
             this.buffer.clear();
             this.entityIdMap.clear();
+            this.translatedPackets.clear();
+            this.droppableRanges.clear();
         }
 
         private void processPlayer(Player player, ByteBuffer buffer) {
-            final int size = buffer.limit();
             final PlayerConnection connection = player.getPlayerConnection();
-            final LongArrayList pairs = entityIdMap.get(player.getEntityId());
+            LongArrayList pairs = entityIdMap.get(player.getEntityId());
+            if (!droppableRanges.isEmpty() && connection instanceof PlayerSocketConnection socketConnection &&
+                    socketConnection.isDropping()) {
+                // The viewer does not keep up, skip the droppable packets as well
+                long[] skipped = droppableRanges.toLongArray();
+                if (pairs != null) {
+                    skipped = Arrays.copyOf(skipped, skipped.length + pairs.size());
+                    System.arraycopy(pairs.elements(), 0, skipped, droppableRanges.size(), pairs.size());
+                }
+                Arrays.sort(skipped); // Ordered by start offset
+                pairs = LongArrayList.wrap(skipped);
+                socketConnection.countDropped(droppableRanges.size());
+            }
+            int position = 0;
+            for (TranslatedPacket translated : translatedPackets) {
+                position = writeRange(connection, buffer, pairs, position, translated.offset());
+                if (!Objects.equals(translated.exception(), player)) {
+                    player.sendPacket(translatedPacket(translated.packet(), player));
+                }
+            }
+            writeRange(connection, buffer, pairs, position, buffer.limit());
+        }
+
+        /**
+         * Writes a range of the buffer, skipping the parts excluded for the player.
+         *
+         * @return the end of the range
+         */
+        private static int writeRange(PlayerConnection connection, ByteBuffer buffer, @Nullable LongArrayList pairs,
+                                      int from, int to) {
+            int lastWrite = from;
             if (pairs != null) {
                 // Ensure that we skip the specified parts of the buffer
-                int lastWrite = 0;
                 final long[] elements = pairs.elements();
                 for (int i = 0; i < pairs.size(); ++i) {
                     final long offsets = elements[i];
                     final int start = (int) (offsets >> 32);
-                    if (start != lastWrite) writeTo(connection, buffer, lastWrite, start - lastWrite);
-                    lastWrite = (int) offsets; // End = last 32 bits
+                    final int end = (int) offsets; // End = last 32 bits
+                    // Skipped ranges may overlap when a droppable packet is also excluded
+                    if (start < from || start >= to || start < lastWrite) continue;
+                    if (start != lastWrite) writeSharedTo(connection, buffer, lastWrite, start - lastWrite);
+                    lastWrite = end;
                 }
-                if (size != lastWrite) writeTo(connection, buffer, lastWrite, size - lastWrite);
-            } else {
-                // Write all
-                writeTo(connection, buffer, 0, size);
             }
+            if (to != lastWrite) writeSharedTo(connection, buffer, lastWrite, to - lastWrite);
+            return to;
+        }
+
+        private record LatestPacket(ServerPacket packet, Player exception) {
+        }
+
+        private record TranslatedPacket(int offset, ComponentHoldingServerPacket packet, Player exception) {
         }
 
         private static void writeTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length) {
@@ -382,5 +540,14 @@ public final class PacketUtils {
             }
             // TODO for non-socket connection
         }
+
+        private static void writeSharedTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length) {
+            if (connection instanceof PlayerSocketConnection socketConnection) {
+                // The buffer is a copy never modified afterward
+                socketConnection.writeShared(buffer, offset, length);
+                return;
+            }
+            // TODO for non-socket connection
+        }
     }
 }
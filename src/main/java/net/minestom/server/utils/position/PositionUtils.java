@@ -20,6 +20,22 @@ public final class PositionUtils {
         return degrees;
     }
 
+    /**
+     * Brings a yaw back into the [-180, 180] range, as stored by {@link Pos}.
+     *
+     * @param yaw the yaw to normalize
+     * @return the normalized yaw
+     */
+    public static float fixYaw(float yaw) {
+        yaw = yaw % 360;
+        if (yaw < -180.0F) {
+            yaw += 360.0F;
+        } else if (yaw > 180.0F) {
+            yaw -= 360.0F;
+        }
+        return yaw;
+    }
+
     public static float getLookPitch(double dx, double dy, double dz) {
         final double radians = -Math.atan2(dy, Math.max(Math.abs(dx), Math.abs(dz)));
         return (float) Math.toDegrees(radians);
@@ -1,9 +1,16 @@
 package net.minestom.server.command;
 
 import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.CommandResult;
+import net.minestom.server.command.builder.arguments.ArgumentType;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,6 +52,35 @@ public class CommandManagerTest {
         assertTrue(check.get());
     }
 
+    @Test
+    public void cachedGraphInvalidation() {
+        var manager = new CommandManager();
+        AtomicBoolean check = new AtomicBoolean(false);
+
+        var command = new Command("name");
+        manager.register(command);
+        assertNotEquals(CommandResult.Type.UNKNOWN, manager.executeServerCommand("name").getType());
+
+        // Modification after registration
+        var subcommand = new Command("sub");
+        command.addSubcommand(subcommand);
+        subcommand.setDefaultExecutor((sender, context) -> check.set(true));
+        manager.executeServerCommand("name sub");
+        assertTrue(check.get(), "Subcommand added after registration should be executable");
+
+        // Syntax modification after registration
+        AtomicBoolean replaced = new AtomicBoolean(false);
+        var syntax = command.addSyntax((sender, context) -> fail("Replaced executor should not run"),
+                ArgumentType.Literal("literal")).iterator().next();
+        manager.executeServerCommand("name");
+        syntax.setExecutor((sender, context) -> replaced.set(true));
+        manager.executeServerCommand("name literal");
+        assertTrue(replaced.get(), "Syntax executor changed after registration should be used");
+
+        manager.unregister(command);
+        assertEquals(CommandResult.Type.UNKNOWN, manager.executeServerCommand("name").getType());
+    }
+
     private static void assertNodeEquals(DeclareCommandsPacket.Node node, byte flags, int[] children, int redirectedNode,
                                          String name, String parser, byte[] properties, String suggestionsType) {
         assertEquals(flags, node.flags);
@@ -56,4 +92,31 @@ public class CommandManagerTest {
         assertEquals(suggestionsType, node.suggestionsType);
     }
 
+    @Test
+    public void asyncExecution() throws Exception {
+        var manager = new CommandManager();
+        var sender = new ServerSender();
+        var latch = new CountDownLatch(1);
+        var command = new Command("name");
+        command.setDefaultExecutor((s, context) -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        manager.register(command);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            manager.setAsyncSettings(new CommandManager.AsyncSettings(executor, Duration.ofSeconds(5), 1));
+            var first = manager.executeAsync(sender, "name");
+            // In-flight limit reached
+            assertEquals(CommandResult.Type.CANCELLED, manager.executeAsync(sender, "name").get(5, TimeUnit.SECONDS).getType());
+            assertFalse(first.isDone());
+            latch.countDown();
+            assertEquals(CommandResult.Type.SUCCESS, first.get(5, TimeUnit.SECONDS).getType());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -199,7 +199,12 @@ public class CommandPacketFilteringTest {
     }
 
     private void assertFiltering(Command command, String expectedStructure) {
-        final DeclareCommandsPacket packet = GraphConverter.createPacket(Graph.merge(Set.of(command)), PLAYER);
+        final Graph graph = Graph.merge(Set.of(command));
+        final DeclareCommandsPacket packet = GraphConverter.createPacket(graph, PLAYER);
         CommandTestUtils.assertPacket(packet, expectedStructure);
+        // Packet shared by all players with the same visible conditions
+        final DeclareCommandsPacket profilePacket = GraphConverter.createProfilePacket(graph,
+                GraphConverter.visibilityProfile(graph, PLAYER));
+        CommandTestUtils.assertPacket(profilePacket, expectedStructure);
     }
 }
@@ -120,6 +120,25 @@ public class CommandParseTest {
         assertSyntaxError(foo, "bar");
     }
 
+    @Test
+    public void literalChildOrder() {
+        final AtomicBoolean literal = new AtomicBoolean();
+        final AtomicBoolean word = new AtomicBoolean();
+        final AtomicBoolean number = new AtomicBoolean();
+        var foo = Graph.merge(Graph.builder(Literal("foo"))
+                .append(Literal("a"), createExecutor(literal))
+                .append(Word("word").from("a", "b"), createExecutor(word))
+                .append(Literal("b"), createExecutor(literal))
+                .append(ArgumentType.Integer("num"), createExecutor(number))
+                .build());
+        // First matching child wins, whether or not it is a literal
+        assertValid(foo, "foo a", literal);
+        assertValid(foo, "foo b", word);
+        assertValid(foo, "foo 5", number);
+        assertValid(foo, "foo -5", number);
+        assertSyntaxError(foo, "foo c");
+    }
+
     private static void assertSyntaxError(Graph graph, String input) {
         assertInstanceOf(CommandParser.Result.KnownCommand.Invalid.class, parseCommand(graph, input));
     }
@@ -0,0 +1,175 @@
+package net.minestom.server.entity.player;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerLoginEvent;
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.event.player.PlayerPacketEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.*;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.network.socket.Server;
+import net.minestom.server.network.socket.Worker;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static net.minestom.server.network.packet.client.ClientPacketsHandler.Play.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Movement packets replaced by the following packet are dropped by the connection before being decoded.
+ */
+@EnvTest
+public class PlayerMovementCoalescingIntegrationTest {
+    private static final int HELD_ITEM_CHANGE_ID = 0x28;
+
+    @Test
+    public void replacedPosition(Env env) throws IOException {
+        var player = connect(env, env.createFlatInstance());
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        // A rotation does not replace a position
+        write(buffer, PLAYER_ROTATION_ID, new ClientPlayerRotationPacket(90, 0, true));
+        read(player, buffer);
+        assertEquals(2, player.packetQueueMetrics().queuedPackets());
+        player.interpretPacketQueue();
+        assertEquals(new Pos(0.4, 40, 0, 90, 0), player.getPosition());
+    }
+
+    @Test
+    public void replacedByPositionRotation(Env env) throws IOException {
+        var player = connect(env, env.createFlatInstance());
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, PLAYER_ID, new ClientPlayerPacket(true));
+        write(buffer, PLAYER_ROTATION_ID, new ClientPlayerRotationPacket(45, 0, true));
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        write(buffer, PLAYER_POSITION_AND_ROTATION_ID,
+                new ClientPlayerPositionAndRotationPacket(new Pos(0.6, 40, 0, 10, 0), true));
+        read(player, buffer);
+        // The rotation replaces the ground packet, the position is replaced by the position and rotation
+        assertEquals(2, player.packetQueueMetrics().queuedPackets());
+        player.interpretPacketQueue();
+        assertEquals(new Pos(0.6, 40, 0, 10, 0), player.getPosition());
+    }
+
+    @Test
+    public void groundAfterRotation(Env env) throws IOException {
+        var player = connect(env, env.createFlatInstance());
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, PLAYER_ROTATION_ID, new ClientPlayerRotationPacket(45, 0, true));
+        write(buffer, PLAYER_ID, new ClientPlayerPacket(true));
+        read(player, buffer);
+        // A ground packet only replaces another ground packet
+        assertEquals(2, player.packetQueueMetrics().queuedPackets());
+        player.interpretPacketQueue();
+        assertEquals(new Pos(0, 40, 0, 45, 0), player.getPosition());
+    }
+
+    @Test
+    public void otherPacketInBetween(Env env) throws IOException {
+        var player = connect(env, env.createFlatInstance());
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        write(buffer, HELD_ITEM_CHANGE_ID, new ClientHeldItemChangePacket((short) 3));
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        read(player, buffer);
+        // The first movement is decoded before the packet following it
+        assertEquals(3, player.packetQueueMetrics().queuedPackets());
+        player.interpretPacketQueue();
+        assertEquals(3, player.getHeldSlot());
+        assertEquals(new Pos(0.4, 40, 0), player.getPosition());
+    }
+
+    @Test
+    public void separateReads(Env env) throws IOException {
+        var player = connect(env, env.createFlatInstance());
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        read(player, buffer);
+        // Not kept until the next read
+        assertEquals(1, player.packetQueueMetrics().queuedPackets());
+
+        buffer.clear();
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        read(player, buffer);
+        assertEquals(2, player.packetQueueMetrics().queuedPackets());
+    }
+
+    @Test
+    public void moveListener(Env env) throws IOException {
+        var player = connect(env, env.createFlatInstance());
+        List<Pos> positions = new ArrayList<>();
+        env.process().eventHandler().addListener(PlayerMoveEvent.class, event -> positions.add(event.getNewPosition()));
+
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        read(player, buffer);
+        // Every movement is observed
+        assertEquals(2, player.packetQueueMetrics().queuedPackets());
+        player.interpretPacketQueue();
+        assertEquals(List.of(new Pos(0.2, 40, 0), new Pos(0.4, 40, 0)), positions);
+    }
+
+    @Test
+    public void packetListener(Env env) throws IOException {
+        var player = connect(env, env.createFlatInstance());
+        List<ClientPacket> packets = new ArrayList<>();
+        env.process().eventHandler().addListener(PlayerPacketEvent.class, event -> packets.add(event.getPacket()));
+
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        write(buffer, PLAYER_POSITION_ID, new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        read(player, buffer);
+        assertEquals(2, player.packetQueueMetrics().queuedPackets());
+        player.interpretPacketQueue();
+        assertEquals(List.of(
+                new ClientPlayerPositionPacket(new Vec(0.2, 40, 0), true),
+                new ClientPlayerPositionPacket(new Vec(0.4, 40, 0), true)), packets);
+    }
+
+    private static Player connect(Env env, Instance instance) throws IOException {
+        var worker = new Worker(new Server(new PacketProcessor()));
+        var connection = new PlayerSocketConnection(worker, SocketChannel.open(), new InetSocketAddress("localhost", 25565));
+        var player = new Player(UUID.randomUUID(), "RandName", connection);
+        player.eventNode().addListener(PlayerLoginEvent.class, event -> {
+            event.setSpawningInstance(instance);
+            event.getPlayer().setRespawnPoint(new Pos(0, 40, 0));
+        });
+        env.process().connection().startPlayState(player, true).join();
+        env.process().connection().updateWaitingPlayers();
+        player.addPacketToQueue(new ClientTeleportConfirmPacket(player.getLastSentTeleportId()));
+        player.interpretPacketQueue();
+        return player;
+    }
+
+    private static void write(ByteBuffer buffer, int id, ClientPacket packet) {
+        PacketUtils.writeFramedPacket(buffer, id, packet, MinecraftServer.getCompressionThreshold());
+    }
+
+    /**
+     * Reads the packets written in {@code buffer} as if they were received from the socket.
+     */
+    private static void read(Player player, ByteBuffer buffer) {
+        var wrapper = BinaryBuffer.wrap(buffer);
+        wrapper.reset(0, buffer.position());
+        var connection = (PlayerSocketConnection) player.getPlayerConnection();
+        connection.processPackets(wrapper, MinecraftServer.getPacketProcessor());
+    }
+}
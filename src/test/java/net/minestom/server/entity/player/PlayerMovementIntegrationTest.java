@@ -8,9 +8,11 @@ import net.minestom.testing.TestConnection;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerMoveEvent;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
 import net.minestom.server.network.packet.client.play.ClientTeleportConfirmPacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
 import net.minestom.server.network.packet.server.play.EntityPositionPacket;
@@ -43,6 +45,40 @@ public class PlayerMovementIntegrationTest {
         assertEquals(new Pos(0.2, 40, 0), p1.getPosition());
     }
 
+    @Test
+    public void movementCoalescing(Env env) {
+        var instance = env.createFlatInstance();
+        var p1 = env.createPlayer(instance, new Pos(0, 40, 0));
+        p1.addPacketToQueue(new ClientTeleportConfirmPacket(p1.getLastSentTeleportId()));
+        p1.interpretPacketQueue();
+        final long processed = p1.packetQueueMetrics().processedPackets();
+
+        p1.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        p1.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        p1.addPacketToQueue(new ClientPlayerRotationPacket(90, 0, true));
+        p1.interpretPacketQueue();
+        assertEquals(new Pos(0.4, 40, 0, 90, 0), p1.getPosition());
+        var metrics = p1.packetQueueMetrics();
+        assertEquals(1, metrics.coalescedPackets());
+        assertEquals(processed + 2, metrics.processedPackets());
+        assertEquals(0, metrics.queuedPackets());
+        assertEquals(0, metrics.queuedCost());
+    }
+
+    @Test
+    public void unchangedRotationOutOfRange(Env env) {
+        var instance = env.createFlatInstance();
+        var p1 = env.createPlayer(instance, new Pos(0, 40, 0, 90, 0));
+        p1.addPacketToQueue(new ClientTeleportConfirmPacket(p1.getLastSentTeleportId()));
+        p1.interpretPacketQueue();
+        // 450 is normalized to the current yaw
+        var listener = env.listen(PlayerMoveEvent.class);
+        listener.failFollowup();
+        p1.addPacketToQueue(new ClientPlayerRotationPacket(450, 0, true));
+        p1.interpretPacketQueue();
+        assertEquals(new Pos(0, 40, 0, 90, 0), p1.getPosition());
+    }
+
     // FIXME
     //@Test
     public void singleTickMovementUpdate(Env env) {
@@ -0,0 +1,124 @@
+package net.minestom.server.entity.player;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerLoginEvent;
+import net.minestom.server.event.player.PlayerPacketEvent;
+import net.minestom.server.event.player.PlayerRawPacketEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.ClientAnimationPacket;
+import net.minestom.server.network.packet.client.play.ClientHeldItemChangePacket;
+import net.minestom.server.network.packet.client.play.ClientTeleportConfirmPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.network.socket.Server;
+import net.minestom.server.network.socket.Worker;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PlayerRawPacketIntegrationTest {
+    private static final int HELD_ITEM_CHANGE_ID = 0x28;
+    private static final int ANIMATION_ID = 0x2F;
+
+    @Test
+    public void delivery(Env env) throws IOException {
+        var instance = env.createFlatInstance();
+        var connection = connect(env, instance);
+        var player = connection.getPlayer();
+        assertNotNull(player);
+
+        List<Player> players = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        List<ClientHeldItemChangePacket> heldPackets = new ArrayList<>();
+        env.process().eventHandler().addListener(PlayerRawPacketEvent.class, event -> {
+            players.add(event.getPlayer());
+            ids.add(event.getPacketId());
+            // The payload is only valid during the event
+            if (event.getPacketId() == HELD_ITEM_CHANGE_ID) {
+                heldPackets.add(new ClientHeldItemChangePacket(new NetworkBuffer(event.getPayload())));
+            }
+        });
+
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, HELD_ITEM_CHANGE_ID, new ClientHeldItemChangePacket((short) 3));
+        write(buffer, ANIMATION_ID, new ClientAnimationPacket(Player.Hand.MAIN));
+        read(connection, buffer);
+        assertEquals(List.of(player, player), players);
+        assertEquals(List.of(HELD_ITEM_CHANGE_ID, ANIMATION_ID), ids);
+        assertEquals(List.of(new ClientHeldItemChangePacket((short) 3)), heldPackets);
+
+        // Reading the payload does not prevent the packet from being decoded
+        assertEquals(2, player.packetQueueMetrics().queuedPackets());
+        player.interpretPacketQueue();
+        assertEquals(3, player.getHeldSlot());
+    }
+
+    @Test
+    public void cancellation(Env env) throws IOException {
+        var instance = env.createFlatInstance();
+        var connection = connect(env, instance);
+        var player = connection.getPlayer();
+        assertNotNull(player);
+
+        env.process().eventHandler().addListener(PlayerRawPacketEvent.class, event -> {
+            if (event.getPacketId() == HELD_ITEM_CHANGE_ID) event.setCancelled(true);
+        });
+        List<ClientPacket> packets = new ArrayList<>();
+        env.process().eventHandler().addListener(PlayerPacketEvent.class, event -> packets.add(event.getPacket()));
+
+        var buffer = ByteBuffer.allocate(4096);
+        write(buffer, HELD_ITEM_CHANGE_ID, new ClientHeldItemChangePacket((short) 3));
+        write(buffer, ANIMATION_ID, new ClientAnimationPacket(Player.Hand.MAIN));
+        read(connection, buffer);
+        // Cancelled packets are never decoded, the following ones are still read
+        assertEquals(1, player.packetQueueMetrics().queuedPackets());
+        player.interpretPacketQueue();
+        assertEquals(List.of(new ClientAnimationPacket(Player.Hand.MAIN)), packets);
+        assertEquals(0, player.getHeldSlot());
+    }
+
+    private static PlayerSocketConnection connect(Env env, Instance instance) throws IOException {
+        var worker = new Worker(new Server(new PacketProcessor()));
+        var connection = new PlayerSocketConnection(worker, SocketChannel.open(), new InetSocketAddress("localhost", 25565));
+        var player = new Player(UUID.randomUUID(), "RandName", connection);
+        player.eventNode().addListener(PlayerLoginEvent.class, event -> {
+            event.setSpawningInstance(instance);
+            event.getPlayer().setRespawnPoint(new Pos(0, 40, 0));
+        });
+        env.process().connection().startPlayState(player, true).join();
+        env.process().connection().updateWaitingPlayers();
+        player.addPacketToQueue(new ClientTeleportConfirmPacket(player.getLastSentTeleportId()));
+        player.interpretPacketQueue();
+        return connection;
+    }
+
+    private static void write(ByteBuffer buffer, int id, ClientPacket packet) {
+        PacketUtils.writeFramedPacket(buffer, id, packet, MinecraftServer.getCompressionThreshold());
+    }
+
+    /**
+     * Reads the packets written in {@code buffer} as if they were received from the socket.
+     */
+    private static void read(PlayerSocketConnection connection, ByteBuffer buffer) {
+        var wrapper = BinaryBuffer.wrap(buffer);
+        wrapper.reset(0, buffer.position());
+        connection.processPackets(wrapper, MinecraftServer.getPacketProcessor());
+    }
+}
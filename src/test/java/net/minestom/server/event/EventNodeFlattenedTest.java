@@ -0,0 +1,203 @@
+package net.minestom.server.event;
+
+import net.minestom.server.event.EventNodeTest.CancellableTest;
+import net.minestom.server.event.EventNodeTest.EventTest;
+import net.minestom.server.event.EventNodeTest.ItemTestEvent;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dispatch through handles compiled into a single method handle tree.
+ */
+public class EventNodeFlattenedTest {
+    private static boolean previous;
+
+    @BeforeAll
+    public static void enable() {
+        previous = EventNodeImpl.flattenHandles;
+        EventNodeImpl.flattenHandles = true;
+    }
+
+    @AfterAll
+    public static void restore() {
+        EventNodeImpl.flattenHandles = previous;
+    }
+
+    @Test
+    public void call() {
+        var node = EventNode.all("main");
+        AtomicInteger result = new AtomicInteger(0);
+        var listener = EventListener.of(EventTest.class, event -> result.incrementAndGet());
+        node.addListener(listener);
+        node.addListener(EventTest.class, event -> result.incrementAndGet());
+        node.call(new EventTest());
+        assertEquals(2, result.get());
+
+        // Rebuilt after the removal
+        node.removeListener(listener);
+        node.call(new EventTest());
+        assertEquals(3, result.get());
+    }
+
+    @Test
+    public void cancellable() {
+        var node = EventNode.all("main");
+        AtomicBoolean result = new AtomicBoolean(false);
+        node.addListener(CancellableTest.class, event -> event.setCancelled(true));
+        node.addListener(CancellableTest.class, event -> fail("The event must have been cancelled"));
+        node.addListener(EventListener.builder(CancellableTest.class)
+                .ignoreCancelled(false)
+                .handler(event -> result.set(true)).build());
+        node.call(new CancellableTest());
+        assertTrue(result.get(), "Listeners not ignoring cancellation should still be called");
+    }
+
+    @Test
+    public void predicateGuard() {
+        AtomicBoolean result = new AtomicBoolean(false);
+        AtomicBoolean childResult = new AtomicBoolean(false);
+
+        var node = EventNode.type("item_node", EventFilter.ITEM,
+                (event, item) -> item.material() == Material.DIAMOND);
+        var child = EventNode.type("item_node2", EventFilter.ITEM)
+                .addListener(ItemTestEvent.class, event -> childResult.set(true));
+        node.addChild(child);
+        node.addListener(ItemTestEvent.class, event -> result.set(true));
+
+        node.call(new ItemTestEvent(ItemStack.of(Material.GOLD_BLOCK)));
+        assertFalse(result.get(), "The predicate should guard the node listeners");
+        assertFalse(childResult.get(), "The predicate should guard the children");
+
+        node.call(new ItemTestEvent(ItemStack.of(Material.DIAMOND)));
+        assertTrue(result.get());
+        assertTrue(childResult.get());
+    }
+
+    @Test
+    public void childPredicateGuard() {
+        AtomicInteger result = new AtomicInteger(0);
+        var node = EventNode.all("main")
+                .addListener(ItemTestEvent.class, event -> result.incrementAndGet());
+        var child = EventNode.type("item_node", EventFilter.ITEM,
+                        (event, item) -> item.material() == Material.DIAMOND)
+                .addListener(ItemTestEvent.class, event -> result.addAndGet(10));
+        node.addChild(child);
+
+        // Only the child is guarded
+        node.call(new ItemTestEvent(ItemStack.of(Material.GOLD_BLOCK)));
+        assertEquals(1, result.get());
+        node.call(new ItemTestEvent(ItemStack.of(Material.DIAMOND)));
+        assertEquals(12, result.get());
+    }
+
+    @Test
+    public void expireCount() {
+        var node = EventNode.all("main");
+        AtomicInteger result = new AtomicInteger(0);
+        node.addListener(EventListener.builder(EventTest.class)
+                .expireCount(2)
+                .handler(event -> result.incrementAndGet()).build());
+        assertTrue(node.hasListener(EventTest.class));
+
+        for (int i = 0; i < 4; i++) node.call(new EventTest());
+        assertEquals(2, result.get(), "The listener should expire after 2 calls");
+        assertFalse(node.hasListener(EventTest.class), "The expired listener should be removed");
+    }
+
+    @Test
+    public void expireWhenChild() {
+        var node = EventNode.all("main");
+        AtomicInteger result = new AtomicInteger(0);
+        AtomicInteger other = new AtomicInteger(0);
+        var child = EventNode.all("child")
+                .addListener(EventListener.builder(EventTest.class)
+                        .expireWhen(event -> result.get() == 1)
+                        .handler(event -> result.incrementAndGet()).build())
+                .addListener(EventTest.class, event -> other.incrementAndGet());
+        node.addChild(child);
+
+        for (int i = 0; i < 3; i++) node.call(new EventTest());
+        assertEquals(1, result.get(), "The child listener should have expired");
+        assertEquals(3, other.get(), "Other listeners of the child should remain");
+    }
+
+    @Test
+    public void children() {
+        var node = EventNode.all("main");
+        List<String> calls = new ArrayList<>();
+        var child1 = EventNode.all("child1").setPriority(1)
+                .addListener(EventTest.class, event -> calls.add("child1"));
+        var child2 = EventNode.all("child2").setPriority(2)
+                .addListener(EventTest.class, event -> calls.add("child2"));
+        node.addListener(EventTest.class, event -> calls.add("main"));
+        node.addChild(child2);
+        node.addChild(child1);
+        node.call(new EventTest());
+        assertEquals(List.of("main", "child1", "child2"), calls);
+
+        // Listener added to a child after the parent has been compiled
+        calls.clear();
+        var grandChild = EventNode.all("grandchild");
+        child1.addChild(grandChild);
+        node.call(new EventTest());
+        grandChild.addListener(EventTest.class, event -> calls.add("grandchild"));
+        node.call(new EventTest());
+        assertEquals(List.of("main", "child1", "child2", "main", "child1", "grandchild", "child2"), calls);
+
+        calls.clear();
+        node.removeChild(child1);
+        node.call(new EventTest());
+        assertEquals(List.of("main", "child2"), calls);
+    }
+
+    @Test
+    public void binding() {
+        var node = EventNode.all("main");
+        AtomicBoolean result = new AtomicBoolean(false);
+        var binding = EventBinding.filtered(EventFilter.ITEM, itemStack -> itemStack.material() == Material.DIAMOND)
+                .map(ItemTestEvent.class, (itemStack, itemTestEvent) -> result.set(true))
+                .build();
+        node.register(binding);
+        node.call(new ItemTestEvent(ItemStack.of(Material.GOLD_BLOCK)));
+        assertFalse(result.get());
+        node.call(new ItemTestEvent(ItemStack.of(Material.DIAMOND)));
+        assertTrue(result.get());
+
+        result.set(false);
+        node.unregister(binding);
+        node.call(new ItemTestEvent(ItemStack.of(Material.DIAMOND)));
+        assertFalse(result.get());
+    }
+
+    @Test
+    public void mapped() {
+        var item = ItemStack.of(Material.DIAMOND);
+        var node = EventNode.all("main");
+        AtomicInteger result = new AtomicInteger(0);
+        node.addListener(ItemTestEvent.class, event -> result.incrementAndGet());
+
+        var itemNode = node.map(item, EventFilter.ITEM);
+        itemNode.addListener(ItemTestEvent.class, event -> result.addAndGet(10));
+        assertTrue(node.hasListener(ItemTestEvent.class));
+
+        node.call(new ItemTestEvent(item));
+        assertEquals(11, result.get());
+
+        node.call(new ItemTestEvent(ItemStack.of(Material.GOLD_INGOT)));
+        assertEquals(12, result.get(), "Only the mapped item should reach the mapped node");
+
+        node.unmap(item);
+        node.call(new ItemTestEvent(item));
+        assertEquals(13, result.get());
+    }
+}
@@ -8,6 +8,7 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.NamespaceID;
 import org.jetbrains.annotations.NotNull;
@@ -19,7 +20,7 @@ import java.io.StringReader;
 import java.util.Collection;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class InstanceBlockPacketIntegrationTest {
@@ -36,6 +37,7 @@ public class InstanceBlockPacketIntegrationTest {
 
         var tracker = connection.trackIncoming();
         instance.setBlock(blockPoint, Block.STONE);
+        instance.flushBlockChanges();
         tracker.assertSingle(BlockChangePacket.class, packet -> {
             assertEquals(blockPoint, packet.blockPosition());
             assertEquals(Block.STONE.stateId(), packet.blockStateId());
@@ -44,6 +46,34 @@ public class InstanceBlockPacketIntegrationTest {
         assertEquals(Block.STONE, instance.getBlock(blockPoint));
     }
 
+    @Test
+    public void sectionChanges(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var tracker = connection.trackIncoming();
+        instance.setBlock(1, 41, 2, Block.STONE);
+        instance.setBlock(3, 42, 4, Block.DIRT);
+        instance.setBlock(1, 41, 2, Block.GLASS); // Overrides the first change
+        instance.setBlock(1, 50, 0, Block.STONE); // Different section
+        tracker.assertEmpty();
+
+        instance.flushBlockChanges();
+        var packets = tracker.collect();
+        assertEquals(2, packets.size());
+        var multiBlockChange = assertInstanceOf(MultiBlockChangePacket.class, packets.get(0));
+        assertArrayEquals(new long[]{
+                (long) Block.GLASS.stateId() << 12 | 1 << 8 | 2 << 4 | (41 & 0xF),
+                (long) Block.DIRT.stateId() << 12 | 3 << 8 | 4 << 4 | (42 & 0xF)
+        }, multiBlockChange.blocks());
+        var blockChange = assertInstanceOf(BlockChangePacket.class, packets.get(1));
+        assertEquals(new Vec(1, 50, 0), blockChange.blockPosition());
+        assertEquals(Block.STONE.stateId(), blockChange.blockStateId());
+
+        assertEquals(Block.GLASS, instance.getBlock(1, 41, 2));
+    }
+
     @Test
     public void placeBlockEntity(Env env) {
         var instance = env.createFlatInstance();
@@ -84,6 +114,7 @@ public class InstanceBlockPacketIntegrationTest {
         var blockChangeTracker = connection.trackIncoming(BlockChangePacket.class);
         var blockEntityTracker = connection.trackIncoming(BlockEntityDataPacket.class);
         instance.setBlock(blockPoint, block);
+        instance.flushBlockChanges();
         blockChangeTracker.assertSingle(packet -> {
             assertEquals(blockPoint, packet.blockPosition());
             assertEquals(block.stateId(), packet.blockStateId());
@@ -96,4 +127,19 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(block, instance.getBlock(blockPoint));
     }
+
+    @Test
+    public void replacedBlockEntity(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var blockEntityTracker = connection.trackIncoming(BlockEntityDataPacket.class);
+        instance.setBlock(1, 41, 0, Block.CHEST);
+        instance.setBlock(1, 41, 0, Block.CHEST.withProperty("facing", "south")); // Only the last data is sent
+        instance.setBlock(2, 41, 0, Block.CHEST);
+        instance.setBlock(2, 41, 0, Block.STONE); // No longer a block entity
+        instance.flushBlockChanges();
+        blockEntityTracker.assertSingle(packet -> assertEquals(new Vec(1, 41, 0), packet.blockPosition()));
+    }
 }
@@ -0,0 +1,95 @@
+package net.minestom.server.instance.batch;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.network.packet.server.play.UpdateLightPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkBatchIntegrationTest {
+
+    @Test
+    public void sectionUpdate(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        ChunkBatch batch = new ChunkBatch();
+        batch.setBlock(0, 41, 0, Block.STONE);
+        batch.setBlock(1, 42, 0, Block.STONE);
+        batch.setBlock(2, 43, 0, Block.STONE);
+
+        var chunkTracker = connection.trackIncoming(ChunkDataPacket.class);
+        var tracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var lightTracker = connection.trackIncoming(UpdateLightPacket.class);
+        CompletableFuture<Chunk> future = new CompletableFuture<>();
+        batch.unsafeApply(instance, instance.getChunk(0, 0), future::complete);
+        future.join();
+
+        chunkTracker.assertEmpty();
+        tracker.assertSingle(packet -> assertEquals(3, packet.blocks().length));
+        lightTracker.assertSingle(packet -> {
+            assertEquals(0, packet.chunkX());
+            assertEquals(0, packet.chunkZ());
+        });
+        assertEquals(Block.STONE, instance.getBlock(0, 41, 0));
+        assertEquals(Block.STONE, instance.getBlock(2, 43, 0));
+    }
+
+    @Test
+    public void denseSection(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        // Whole section with a single value, then most of a section with two values
+        ChunkBatch batch = new ChunkBatch();
+        for (int x = 0; x < 16; x++) {
+            for (int y = 48; y < 64; y++) {
+                for (int z = 0; z < 16; z++) {
+                    batch.setBlock(x, y, z, Block.STONE);
+                    if (y + 16 < 76) batch.setBlock(x, y + 16, z, (x + z) % 2 == 0 ? Block.DIRT : Block.GRASS_BLOCK);
+                }
+            }
+        }
+        batch.setBlock(0, 79, 0, Block.AIR);
+
+        CompletableFuture<Chunk> future = new CompletableFuture<>();
+        batch.unsafeApply(instance, instance.getChunk(0, 0), future::complete);
+        future.join();
+
+        assertEquals(Block.STONE, instance.getBlock(0, 48, 0));
+        assertEquals(Block.STONE, instance.getBlock(15, 63, 15));
+        assertEquals(Block.DIRT, instance.getBlock(0, 64, 0));
+        assertEquals(Block.GRASS_BLOCK, instance.getBlock(1, 75, 0));
+        assertEquals(Block.AIR, instance.getBlock(0, 76, 0));
+        assertEquals(Block.AIR, instance.getBlock(0, 79, 0));
+    }
+
+    @Test
+    public void inverse(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        ChunkBatch batch = new ChunkBatch(new BatchOption().setCalculateInverse(true));
+        batch.setBlock(0, 41, 0, Block.STONE);
+
+        CompletableFuture<Chunk> future = new CompletableFuture<>();
+        ChunkBatch inverse = batch.unsafeApply(instance, instance.getChunk(0, 0), future::complete);
+        future.join();
+        assertEquals(Block.STONE, instance.getBlock(0, 41, 0));
+
+        future = new CompletableFuture<>();
+        inverse.unsafeApply(instance, instance.getChunk(0, 0), future::complete);
+        future.join();
+        assertEquals(Block.AIR, instance.getBlock(0, 41, 0));
+    }
+}
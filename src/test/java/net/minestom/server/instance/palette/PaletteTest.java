@@ -218,6 +218,94 @@ public class PaletteTest {
         }
     }
 
+    @Test
+    public void fillRegion() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            final int dimension = palette.dimension();
+            final int half = dimension / 2;
+            palette.fill(0, 0, 0, half, dimension, half, 5);
+            assertEquals(half * dimension * half, palette.count());
+            palette.getAll((x, y, z, value) -> assertEquals(x < half && z < half ? 5 : 0, value));
+
+            palette.fill(0, 0, 0, 1, 1, 1, 0);
+            assertEquals(half * dimension * half - 1, palette.count());
+            assertEquals(0, palette.get(0, 0, 0));
+
+            palette.fill(0, 0, 0, dimension, dimension, dimension, 6);
+            assertEquals(palette.maxSize(), palette.count());
+            palette.getAll((x, y, z, value) -> assertEquals(6, value));
+
+            assertThrows(IllegalArgumentException.class, () -> palette.fill(-1, 0, 0, 1, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> palette.fill(0, 0, 0, dimension + 1, 1, 1, 1));
+        }
+    }
+
+    @Test
+    public void setAllArray() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            final int dimension = palette.dimension();
+            int[] values = new int[palette.maxSize()];
+            for (int i = 0; i < values.length; i++) values[i] = i % 3 == 0 ? 0 : i;
+            palette.setAll(values);
+            palette.getAll((x, y, z, value) -> {
+                final int index = y * dimension * dimension + z * dimension + x;
+                assertEquals(values[index], value);
+            });
+            assertEquals(values.length - (values.length + 2) / 3, palette.count());
+
+            // Fewer distinct values
+            palette.setAll(new int[palette.maxSize()]);
+            assertEquals(0, palette.count());
+            palette.getAll((x, y, z, value) -> assertEquals(0, value));
+
+            assertThrows(IllegalArgumentException.class, () -> palette.setAll(new int[1]));
+        }
+    }
+
+    @Test
+    public void copyFrom() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            final int dimension = palette.dimension();
+            Palette source = Palette.newPalette(dimension, 5, 3);
+            source.setAll((x, y, z) -> x + y + z + 1);
+            palette.copyFrom(source);
+            palette.getAll((x, y, z, value) -> assertEquals(x + y + z + 1, value));
+            assertEquals(source.count(), palette.count());
+
+            // Copies must be independent
+            palette.set(0, 0, 0, 100);
+            assertEquals(1, source.get(0, 0, 0));
+
+            palette.copyFrom(Palette.newPalette(dimension, 5, 3));
+            assertEquals(0, palette.count());
+
+            assertThrows(IllegalArgumentException.class, () -> palette.copyFrom(Palette.newPalette(dimension * 2, 5, 3)));
+        }
+    }
+
+    @Test
+    public void cloneCopyOnWrite() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            palette.setAll((x, y, z) -> x + y + z + 1);
+            Palette copy = palette.clone();
+            Palette secondCopy = copy.clone();
+            copy.set(0, 0, 0, 100);
+            assertEquals(1, palette.get(0, 0, 0));
+            assertEquals(100, copy.get(0, 0, 0));
+            assertEquals(1, secondCopy.get(0, 0, 0));
+
+            palette.set(1, 0, 0, 200);
+            assertEquals(200, palette.get(1, 0, 0));
+            assertEquals(2, copy.get(1, 0, 0));
+            assertEquals(2, secondCopy.get(1, 0, 0));
+            secondCopy.getAll((x, y, z, value) -> assertEquals(x + y + z + 1, value));
+        }
+    }
+
     @Test
     public void getAllPresent() {
         var palettes = testPalettes();
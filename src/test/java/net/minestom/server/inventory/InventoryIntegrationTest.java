@@ -12,6 +12,8 @@ import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
@@ -110,6 +112,52 @@ public class InventoryIntegrationTest {
         equipmentTracker.assertEmpty();
     }
 
+    @Test
+    public void updateChangedSlotsTest(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        player.openInventory(inventory);
+        inventory.setItemStack(1, MAGIC_STACK);
+
+        // Slots already sent should not be sent again
+        var setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        var updateWindowTracker = connection.trackIncoming(WindowItemsPacket.class);
+        inventory.update();
+        env.tick();
+        setSlotTracker.assertEmpty();
+        updateWindowTracker.assertEmpty();
+
+        // Few changes are sent individually at the end of the tick
+        setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        updateWindowTracker = connection.trackIncoming(WindowItemsPacket.class);
+        inventory.itemStacks[3] = MAGIC_STACK;
+        inventory.update();
+        inventory.update();
+        setSlotTracker.assertEmpty();
+        env.tick();
+        setSlotTracker.assertSingle(packet -> {
+            assertEquals(3, packet.slot());
+            assertEquals(MAGIC_STACK, packet.itemStack());
+        });
+        updateWindowTracker.assertEmpty();
+
+        // Most slots changed, send the whole window
+        setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        updateWindowTracker = connection.trackIncoming(WindowItemsPacket.class);
+        Arrays.fill(inventory.itemStacks, MAGIC_STACK);
+        inventory.update();
+        env.tick();
+        setSlotTracker.assertEmpty();
+        updateWindowTracker.assertSingle(packet -> {
+            for (ItemStack item : packet.items()) {
+                assertEquals(MAGIC_STACK, item);
+            }
+        });
+    }
+
     @Test
     public void closeInventoryTest(Env env) {
         var instance = env.createFlatInstance();
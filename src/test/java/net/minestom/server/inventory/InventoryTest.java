@@ -6,6 +6,9 @@ import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class InventoryTest {
@@ -76,6 +79,52 @@ public class InventoryTest {
         assertFalse(inventory.addItemStack(ItemStack.of(Material.BLUE_CONCRETE, 32), TransactionOption.ALL_OR_NOTHING));
     }
 
+    @Test
+    public void testTransaction() {
+        var item = ItemStack.of(Material.DIAMOND, 16);
+        Inventory inventory = new Inventory(InventoryType.HOPPER, "title");
+        final int result = inventory.transaction(inv -> {
+            inv.setItemStack(0, item);
+            inv.setItemStack(1, item);
+            // Changes are visible inside the transaction
+            assertSame(item, inv.getItemStack(0));
+            return 5;
+        });
+        assertEquals(5, result);
+        assertSame(item, inventory.getItemStack(0));
+        assertSame(item, inventory.getItemStack(1));
+
+        // Items of a batch are added on top of each other
+        var results = inventory.addItemStacks(List.of(item, item), TransactionOption.ALL);
+        assertEquals(List.of(ItemStack.AIR, ItemStack.AIR), results);
+        assertEquals(48, inventory.getItemStack(0).amount());
+        assertEquals(16, inventory.getItemStack(1).amount());
+    }
+
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        final int threadCount = 8, additions = 100;
+        var item = ItemStack.of(Material.DIAMOND);
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, "title");
+        inventory.setItemStack(53, ItemStack.of(Material.STICK));
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < additions; j++) {
+                    assertTrue(inventory.addItemStack(item));
+                    inventory.replaceItemStack(53, itemStack -> itemStack.withAmount(amount -> amount + 1));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+
+        int total = 0;
+        for (int i = 0; i < 53; i++) total += inventory.getItemStack(i).amount();
+        assertEquals(threadCount * additions, total);
+        assertEquals(threadCount * additions + 1, inventory.getItemStack(53).amount());
+    }
+
     @Test
     public void testIds() {
         for (int i = 0; i <= 256; ++i) {
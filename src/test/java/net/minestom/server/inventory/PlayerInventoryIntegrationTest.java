@@ -4,6 +4,7 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.EquipmentSlot;
+import net.minestom.server.event.item.EntityEquipEvent;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.network.packet.server.play.EntityEquipmentPacket;
@@ -11,7 +12,12 @@ import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.minestom.server.utils.inventory.PlayerInventoryUtils.HELMET_SLOT;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -171,4 +177,81 @@ public class PlayerInventoryIntegrationTest {
         });
     }
 
+
+    @Test
+    public void concurrentEquipEvents(Env env) throws InterruptedException {
+        final int threadCount = 8, increments = 100;
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        var inventory = player.getInventory();
+        inventory.setItemStack(HELMET_SLOT, ItemStack.of(Material.DIAMOND));
+
+        AtomicInteger equipCount = new AtomicInteger();
+        env.process().eventHandler().addListener(EntityEquipEvent.class, event -> {
+            assertEquals(EquipmentSlot.HELMET, event.getSlot());
+            equipCount.incrementAndGet();
+        });
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < increments; j++) {
+                    // Both retry on contention, only the applied changes must be notified
+                    inventory.replaceItemStack(HELMET_SLOT, itemStack -> itemStack.withAmount(amount -> amount + 1));
+                    inventory.transaction(inv -> {
+                        inv.setItemStack(HELMET_SLOT, inv.getItemStack(HELMET_SLOT).withAmount(amount -> amount + 1));
+                        return null;
+                    });
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(1 + threadCount * increments * 2, inventory.getItemStack(HELMET_SLOT).amount());
+        assertEquals(threadCount * increments * 2, equipCount.get());
+    }
+
+    @Test
+    public void concurrentEquipVeto(Env env) throws InterruptedException {
+        final int threadCount = 8, changes = 100;
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        var inventory = player.getInventory();
+        var vetoed = ItemStack.of(Material.GOLDEN_HELMET);
+
+        env.process().eventHandler().addListener(EntityEquipEvent.class, event -> {
+            if (event.getEquippedItem().material() == Material.GOLDEN_HELMET) event.setEquippedItem(ItemStack.AIR);
+        });
+
+        AtomicInteger seenVetoed = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final int amount = i + 1;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < changes; j++) {
+                    var item = j % 2 == 0 ? vetoed.withAmount(amount) : ItemStack.of(Material.DIAMOND_HELMET, amount);
+                    switch (j % 3) {
+                        case 0 -> inventory.setItemStack(HELMET_SLOT, item);
+                        case 1 -> inventory.replaceItemStack(HELMET_SLOT, itemStack -> item);
+                        default -> inventory.transaction(inv -> {
+                            inv.setItemStack(HELMET_SLOT, item);
+                            return null;
+                        });
+                    }
+                    // The vetoed item must never be visible, even between the event and the insertion
+                    if (inventory.getItemStack(HELMET_SLOT).material() == Material.GOLDEN_HELMET) {
+                        seenVetoed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(0, seenVetoed.get());
+        assertNotEquals(Material.GOLDEN_HELMET, inventory.getItemStack(HELMET_SLOT).material());
+    }
 }
@@ -0,0 +1,95 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerLoginEvent;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ConnectionManagerIntegrationTest {
+
+    @Test
+    public void playerLookup(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        player.setUsernameField("TestName");
+        // Keys are taken at registration
+        manager.removePlayer(player.getPlayerConnection());
+        assertNull(manager.getPlayer(player.getUuid()));
+        manager.registerPlayer(player);
+
+        assertSame(player, manager.getPlayer(player.getUuid()));
+        assertSame(player, manager.getPlayer("testname"));
+        assertSame(player, manager.getPlayer("TESTNAME"));
+        assertSame(player, manager.findPlayer("test"));
+        assertNull(manager.getPlayer("other"));
+        assertTrue(manager.getOnlinePlayers().contains(player));
+    }
+
+    @Test
+    public void duplicateUsername(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player1 = env.createPlayer(instance, new Pos(0, 40, 0));
+        var player2 = env.createPlayer(instance, new Pos(0, 40, 0));
+        assertEquals(player1.getUsername(), player2.getUsername());
+        assertSame(player1, manager.getPlayer(player1.getUuid()));
+        assertSame(player2, manager.getPlayer(player2.getUuid()));
+        assertSame(player1, manager.getPlayer(player1.getUsername()));
+
+        manager.removePlayer(player1.getPlayerConnection());
+        assertNull(manager.getPlayer(player1.getUuid()));
+        assertSame(player2, manager.getPlayer(player2.getUsername()));
+        assertFalse(manager.getOnlinePlayers().contains(player1));
+    }
+
+    @Test
+    public void spawnLimit(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        env.process().eventHandler().addListener(PlayerLoginEvent.class, event -> event.setSpawningInstance(instance));
+        manager.setSpawnsPerTick(1);
+
+        var player1 = new Player(UUID.randomUUID(), "Player1", new DummyConnection());
+        var player2 = new Player(UUID.randomUUID(), "Player2", new DummyConnection());
+        manager.startPlayState(player1, true).join();
+        manager.startPlayState(player2, true).join();
+        assertEquals(2, manager.getWaitingPlayerCount());
+        assertEquals(0, manager.getWaitingPosition(player1));
+        assertEquals(1, manager.getWaitingPosition(player2));
+
+        manager.updateWaitingPlayers();
+        assertEquals(1, manager.getWaitingPlayerCount());
+        assertEquals(-1, manager.getWaitingPosition(player1));
+        assertEquals(0, manager.getWaitingPosition(player2));
+        assertSame(instance, player1.getInstance());
+        assertNull(player2.getInstance());
+
+        manager.updateWaitingPlayers();
+        assertEquals(0, manager.getWaitingPlayerCount());
+        assertSame(instance, player2.getInstance());
+    }
+
+    private static final class DummyConnection extends PlayerConnection {
+        @Override
+        public void sendPacket(@NotNull SendablePacket packet) {
+        }
+
+        @Override
+        public @NotNull SocketAddress getRemoteAddress() {
+            return new InetSocketAddress("localhost", 25565);
+        }
+    }
+}
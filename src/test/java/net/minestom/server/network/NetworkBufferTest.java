@@ -259,6 +259,19 @@ public class NetworkBufferTest {
         assertBufferType(ITEM, ItemStack.of(Material.DIAMOND_AXE, 1).withMeta(builder -> builder.damage(1)));
     }
 
+    @Test
+    public void itemCachedMeta() {
+        var item = ItemStack.of(Material.DIAMOND_AXE, 1)
+                .withMeta(builder -> builder.damage(1).lore(Component.text("Lore")));
+        final byte[] first = NetworkBuffer.makeArray(buffer -> buffer.write(ITEM, item));
+        // Second write uses the cached meta
+        assertArrayEquals(first, NetworkBuffer.makeArray(buffer -> buffer.write(ITEM, item)));
+        // Same meta, different amount
+        var buffer = new NetworkBuffer();
+        buffer.write(ITEM, item.withAmount(5));
+        assertEquals(item.withAmount(5), buffer.read(ITEM));
+    }
+
     @Test
     public void optional() {
         assertBufferTypeOptional(BOOLEAN, null, new byte[]{0});
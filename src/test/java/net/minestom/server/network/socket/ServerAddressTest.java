@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
 import java.nio.file.Files;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +39,21 @@ public class ServerAddressTest {
         assertDoesNotThrow(server::stop);
     }
 
+    @Test
+    public void reusePortTransportTest() throws IOException {
+        InetSocketAddress address = new InetSocketAddress("localhost", 0);
+        var server = new Server(new PacketProcessor(), Transport.reusePort(2));
+        server.init(address);
+        assertEquals(address.getHostString(), server.getAddress());
+        assertNotEquals(address.getPort(), server.getPort());
+
+        assertDoesNotThrow(server::start);
+        try (var client = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()))) {
+            assertTrue(client.isConnected());
+        }
+        assertDoesNotThrow(server::stop);
+    }
+
     @Test
     public void unixAddressTest() throws IOException {
         UnixDomainSocketAddress address = UnixDomainSocketAddress.of("minestom.sock");
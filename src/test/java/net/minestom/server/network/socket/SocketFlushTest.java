@@ -0,0 +1,434 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.Viewable;
+import net.minestom.server.entity.Player;
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.DestroyEntitiesPacket;
+import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
+import net.minestom.server.network.packet.server.play.EntityVelocityPacket;
+import net.minestom.server.network.packet.server.play.ParticlePacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.PacketUtils;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SocketFlushTest {
+
+    static {
+        // Required to prevent initialization error during event call
+        MinecraftServer.init();
+    }
+
+    @Test
+    public void latestPacketsOverflowTickBuffer() throws IOException {
+        final int packetCount = 100;
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+
+            // Leave less room in the tick buffer than needed by the supersedable packets
+            final int fillLength;
+            try (var hold = ObjectPool.BUFFER_POOL.hold()) {
+                fillLength = hold.get().capacity() - 16;
+            }
+            connection.write(ByteBuffer.allocate(fillLength));
+            int expected = fillLength;
+            for (int i = 0; i < packetCount; i++) {
+                var packet = new EntityVelocityPacket(i, (short) 0, (short) 0, (short) 0);
+                connection.sendPacket(packet);
+                expected += framed(packet).length;
+            }
+            worker.queue().drain(Runnable::run);
+            assertEquals(expected, receive(connection, client).length);
+
+            // Everything has been sent, nothing must be written again
+            connection.write(ByteBuffer.allocate(1));
+            worker.queue().drain(Runnable::run);
+            assertEquals(1, receive(connection, client).length);
+        }
+    }
+
+    @Test
+    public void latestPacketsOrderOverLimit() throws IOException {
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+            connection.setOutboundLimit(1, PlayerSocketConnection.OutboundPolicy.DROP);
+
+            var first = new EntityVelocityPacket(5, (short) 1, (short) 0, (short) 0);
+            var second = new EntityVelocityPacket(5, (short) 2, (short) 0, (short) 0);
+            var destroy = new DestroyEntitiesPacket(5);
+            connection.write(ByteBuffer.allocate(16)); // Exceeds the limit
+            connection.sendPacket(first);
+            connection.sendPacket(second);
+            connection.sendPacket(destroy);
+            worker.queue().drain(Runnable::run);
+
+            // The velocity is superseded, but still written before the entity is destroyed
+            var expected = new ByteArrayOutputStream();
+            expected.writeBytes(new byte[16]);
+            expected.writeBytes(framed(second));
+            expected.writeBytes(framed(destroy));
+            assertArrayEquals(expected.toByteArray(), receive(connection, client));
+            assertEquals(1, connection.outboundMetrics().supersededPackets());
+        }
+    }
+
+    @Test
+    public void viewableLatestPacketsOrder() throws IOException {
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+            var viewable = new TestViewable(new Player(UUID.randomUUID(), "Viewer", connection));
+
+            var first = new EntityVelocityPacket(5, (short) 1, (short) 0, (short) 0);
+            var headLook = new EntityHeadLookPacket(5, 90f);
+            var second = new EntityVelocityPacket(5, (short) 2, (short) 0, (short) 0);
+            var destroy = new DestroyEntitiesPacket(5);
+            PacketUtils.prepareViewablePacket(viewable, first);
+            PacketUtils.prepareViewablePacket(viewable, headLook);
+            PacketUtils.prepareViewablePacket(viewable, second);
+            PacketUtils.prepareViewablePacket(viewable, destroy);
+            PacketUtils.flush();
+            worker.queue().drain(Runnable::run);
+
+            // Held packets are appended before the destroy packet, the replaced velocity after the head look
+            final boolean compressed = MinecraftServer.getCompressionThreshold() > 0;
+            var expected = new ByteArrayOutputStream();
+            expected.writeBytes(framed(headLook, compressed));
+            expected.writeBytes(framed(second, compressed));
+            expected.writeBytes(framed(destroy, compressed));
+            assertArrayEquals(expected.toByteArray(), receive(connection, client));
+        }
+    }
+
+    @Test
+    public void dropPolicy() throws IOException {
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+            connection.setOutboundLimit(8, PlayerSocketConnection.OutboundPolicy.DROP);
+
+            var particle = new ParticlePacket(0, false, 0, 0, 0, 0, 0, 0, 0, 1, new byte[0]);
+            var destroy = new DestroyEntitiesPacket(5);
+            connection.write(ByteBuffer.allocate(16)); // Exceeds the limit
+            connection.sendPacket(particle);
+            connection.sendPacket(destroy);
+            worker.queue().drain(Runnable::run);
+            assertTrue(connection.isOnline());
+
+            var expected = new ByteArrayOutputStream();
+            expected.writeBytes(new byte[16]);
+            expected.writeBytes(framed(destroy));
+            assertArrayEquals(expected.toByteArray(), receive(connection, client));
+            var metrics = connection.outboundMetrics();
+            assertEquals(0, metrics.pendingBytes());
+            assertEquals(16 + framed(destroy).length, metrics.peakPendingBytes());
+            assertEquals(1, metrics.droppedPackets());
+
+            // Sent again once the client keeps up
+            connection.sendPacket(particle);
+            worker.queue().drain(Runnable::run);
+            assertArrayEquals(framed(particle), receive(connection, client));
+            assertEquals(1, connection.outboundMetrics().droppedPackets());
+        }
+    }
+
+    @Test
+    public void viewableDropPolicy() throws IOException {
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+            var viewable = new TestViewable(new Player(UUID.randomUUID(), "Viewer", connection));
+            connection.setOutboundLimit(8, PlayerSocketConnection.OutboundPolicy.DROP);
+            connection.write(ByteBuffer.allocate(16)); // Exceeds the limit
+            worker.queue().drain(Runnable::run);
+
+            var particle = new ParticlePacket(0, false, 0, 0, 0, 0, 0, 0, 0, 1, new byte[0]);
+            var destroy = new DestroyEntitiesPacket(5);
+            PacketUtils.prepareViewablePacket(viewable, particle);
+            PacketUtils.prepareViewablePacket(viewable, destroy);
+            PacketUtils.prepareViewablePacket(viewable, particle);
+            PacketUtils.flush();
+            worker.queue().drain(Runnable::run);
+
+            var expected = new ByteArrayOutputStream();
+            expected.writeBytes(new byte[16]);
+            expected.writeBytes(framed(destroy, MinecraftServer.getCompressionThreshold() > 0));
+            assertArrayEquals(expected.toByteArray(), receive(connection, client));
+            assertEquals(2, connection.outboundMetrics().droppedPackets());
+        }
+    }
+
+    @Test
+    public void disconnectPolicy() throws IOException {
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var connection = socket.connection();
+            connection.setOutboundLimit(8, PlayerSocketConnection.OutboundPolicy.DISCONNECT);
+
+            connection.write(ByteBuffer.allocate(8));
+            worker.queue().drain(Runnable::run, 1);
+            assertTrue(connection.isOnline());
+
+            // Only the write is run, the disconnection itself must happen on the worker thread
+            connection.write(ByteBuffer.allocate(1));
+            worker.queue().drain(Runnable::run, 1);
+            assertFalse(connection.isOnline());
+            var metrics = connection.outboundMetrics();
+            assertEquals(8, metrics.pendingBytes());
+            assertEquals(8, metrics.peakPendingBytes());
+        }
+    }
+
+    @Test
+    public void hardLimit() throws IOException {
+        final int hardLimit = Integer.getInteger("minestom.outbound-hard-limit", 64 * 1024 * 1024);
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var connection = socket.connection();
+            connection.setOutboundLimit(8, PlayerSocketConnection.OutboundPolicy.DROP);
+
+            // Past the outbound limit, the drop policy keeps the connection
+            connection.write(ByteBuffer.allocate(16));
+            worker.queue().drain(Runnable::run, 1);
+            assertTrue(connection.isOnline());
+
+            connection.write(ByteBuffer.allocate(hardLimit));
+            worker.queue().drain(Runnable::run, 1);
+            assertFalse(connection.isOnline());
+            assertEquals(16, connection.outboundMetrics().pendingBytes());
+        }
+    }
+
+    @Test
+    public void partialGatheringWrite() throws IOException {
+        try (var socket = TestSocket.open(8 * 1024)) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+            final int sharedLength = 64 * 1024;
+
+            // Tick buffer content interleaved with shared buffers, gathered in a single write
+            var expected = new ByteArrayOutputStream();
+            for (int i = 0; i < 8; i++) {
+                var tick = pattern(100, i);
+                var shared = pattern(sharedLength, i * 7);
+                connection.write(tick);
+                connection.writeShared(shared, 0, sharedLength);
+                expected.writeBytes(tick.array());
+                expected.writeBytes(shared.array());
+            }
+            worker.queue().drain(Runnable::run);
+            final int total = expected.size();
+            assertEquals(total, connection.outboundMetrics().pendingBytes());
+
+            // The client does not read, the socket only accepts part of the data
+            connection.flushSync();
+            final long pending = connection.outboundMetrics().pendingBytes();
+            assertTrue(pending > 0 && pending < total, "Expected a partial write, pending: " + pending);
+
+            assertArrayEquals(expected.toByteArray(), receive(connection, client));
+            assertEquals(0, connection.outboundMetrics().pendingBytes());
+        }
+    }
+
+    @Test
+    public void manyPendingBuffers() throws IOException {
+        final int threshold = Integer.getInteger("minestom.zero-copy-threshold", 1024);
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+
+            // More pending buffers than written by a single gathering write
+            var expected = new ByteArrayOutputStream();
+            for (int i = 0; i < 100; i++) {
+                var tick = pattern(10, i);
+                var shared = pattern(threshold, i * 3);
+                connection.write(tick);
+                connection.writeShared(shared, 0, threshold);
+                expected.writeBytes(tick.array());
+                expected.writeBytes(shared.array());
+            }
+            worker.queue().drain(Runnable::run);
+            assertArrayEquals(expected.toByteArray(), receive(connection, client));
+        }
+    }
+
+    @Test
+    public void zeroCopySharedBuffer() throws IOException {
+        final int threshold = Integer.getInteger("minestom.zero-copy-threshold", 1024);
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+
+            var before = pattern(32, 1);
+            var small = pattern(threshold - 1, 2);
+            var large = pattern(threshold * 4, 3);
+            var after = pattern(32, 4);
+            connection.write(before);
+            connection.writeShared(small, 0, small.limit());
+            // Only part of the shared buffer is written, from an index
+            connection.writeShared(large, 16, large.limit() - 16);
+            connection.write(after);
+            worker.queue().drain(Runnable::run);
+
+            var expected = new ByteArrayOutputStream();
+            expected.writeBytes(before.array());
+            expected.writeBytes(small.array());
+            expected.write(large.array(), 16, large.limit() - 16);
+            expected.writeBytes(after.array());
+            assertArrayEquals(expected.toByteArray(), receive(connection, client));
+
+            // Nothing is left to be sent again from the reused tick buffer
+            connection.write(after);
+            worker.queue().drain(Runnable::run);
+            assertArrayEquals(after.array(), receive(connection, client));
+        }
+    }
+
+    @Test
+    public void encryptedSharedBuffer() throws IOException {
+        final int threshold = Integer.getInteger("minestom.zero-copy-threshold", 1024);
+        var key = new SecretKeySpec(pattern(16, 5).array(), "AES");
+        try (var socket = TestSocket.open()) {
+            var worker = socket.worker();
+            var client = socket.client();
+            var connection = socket.connection();
+            connection.setEncryptionKey(key);
+
+            // Encrypted for this connection, the shared buffer is copied instead
+            var tick = pattern(64, 6);
+            var shared = pattern(threshold * 4, 7);
+            connection.write(tick);
+            connection.writeShared(shared, 0, shared.limit());
+            worker.queue().drain(Runnable::run);
+
+            var expected = new ByteArrayOutputStream();
+            expected.writeBytes(tick.array());
+            expected.writeBytes(shared.array());
+            final byte[] decrypted = MojangCrypt.getCipher(2, key).update(receive(connection, client));
+            assertArrayEquals(expected.toByteArray(), decrypted);
+            // The shared buffer itself is never modified
+            assertArrayEquals(pattern(threshold * 4, 7).array(), shared.array());
+        }
+    }
+
+    private static ByteBuffer pattern(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = (byte) (seed + i * 31);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static byte[] framed(ServerPacket packet) {
+        return framed(packet, false);
+    }
+
+    private static byte[] framed(ServerPacket packet, boolean compressed) {
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            var buffer = PacketUtils.createFramedPacket(hold.get(), packet, compressed);
+            byte[] bytes = new byte[buffer.limit()];
+            buffer.get(0, bytes);
+            return bytes;
+        }
+    }
+
+    private static byte[] receive(PlayerSocketConnection connection, SocketChannel client) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        var received = new ByteArrayOutputStream();
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        do {
+            connection.flushSync();
+            read(client, buffer, received);
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the data");
+        } while (connection.outboundMetrics().pendingBytes() != 0);
+        // Catch data written after the connection considered itself flushed
+        connection.flushSync();
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        read(client, buffer, received);
+        return received.toByteArray();
+    }
+
+    private static void read(SocketChannel client, ByteBuffer buffer, ByteArrayOutputStream received) throws IOException {
+        while (client.read(buffer.clear()) > 0) {
+            received.write(buffer.array(), 0, buffer.position());
+        }
+    }
+
+    private record TestViewable(Player viewer) implements Viewable {
+        @Override
+        public boolean addViewer(@NotNull Player player) {
+            return false;
+        }
+
+        @Override
+        public boolean removeViewer(@NotNull Player player) {
+            return false;
+        }
+
+        @Override
+        public @NotNull Set<@NotNull Player> getViewers() {
+            return Set.of(viewer);
+        }
+    }
+
+    private record TestSocket(ServerSocketChannel serverChannel, SocketChannel client, SocketChannel channel,
+                              Worker worker, PlayerSocketConnection connection) implements AutoCloseable {
+        static TestSocket open() throws IOException {
+            return open(0);
+        }
+
+        /**
+         * @param bufferSize the socket buffer sizes, 0 to keep the defaults
+         */
+        static TestSocket open(int bufferSize) throws IOException {
+            var serverChannel = ServerSocketChannel.open().bind(new InetSocketAddress("localhost", 0));
+            var client = SocketChannel.open();
+            if (bufferSize > 0) client.setOption(StandardSocketOptions.SO_RCVBUF, bufferSize);
+            client.connect(serverChannel.getLocalAddress());
+            client.configureBlocking(false);
+            var channel = serverChannel.accept();
+            // Written by the worker without blocking
+            channel.configureBlocking(false);
+            if (bufferSize > 0) channel.setOption(StandardSocketOptions.SO_SNDBUF, bufferSize);
+            var worker = new Worker(new Server(new PacketProcessor()));
+            var connection = new PlayerSocketConnection(worker, channel, channel.getRemoteAddress());
+            return new TestSocket(serverChannel, client, channel, worker, connection);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+            this.client.close();
+            this.serverChannel.close();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -139,4 +140,27 @@ public class TestScheduler {
         Thread.sleep(250);
         assertTrue(result.get(), "Async task didn't get executed");
     }
+
+    @Test
+    public void asyncCustomExecutor() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        Scheduler scheduler = Scheduler.newScheduler(runnable -> {
+            executions.incrementAndGet();
+            new Thread(runnable).start();
+        }, 1);
+        AtomicInteger result = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            scheduler.buildTask(result::incrementAndGet)
+                    .executionType(ExecutionType.ASYNC)
+                    .schedule();
+        }
+        scheduler.process();
+        Thread.sleep(250);
+        assertEquals(10, result.get(), "Async tasks didn't get executed");
+        assertTrue(executions.get() >= 1, "Custom executor should have been used");
+
+        var metrics = scheduler.asyncMetrics();
+        assertEquals(0, metrics.queued());
+        assertEquals(10, metrics.completed());
+    }
 }
@@ -4,19 +4,23 @@ import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.translation.GlobalTranslator;
 import net.kyori.adventure.translation.TranslationRegistry;
+import net.minestom.server.Viewable;
 import net.minestom.server.adventure.MinestomAdventure;
+import net.minestom.server.entity.Player;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.network.packet.server.play.SystemChatPacket;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class TranslationIntegrationTest {
@@ -48,6 +52,54 @@ public class TranslationIntegrationTest {
         });
     }
 
+    @Test
+    public void testTranslationCache(final Env env) {
+        final var instance = env.createFlatInstance();
+        final var player1 = env.createPlayer(instance, new Pos(0, 40, 0));
+        final var player2 = env.createPlayer(instance, new Pos(0, 40, 0));
+        final var player3 = env.createPlayer(instance, new Pos(0, 40, 0));
+        player3.setLocale(Locale.GERMANY);
+
+        final var packet = new SystemChatPacket(Component.translatable("test.key"), false);
+        final var translated = PacketUtils.translatedPacket(packet, player1);
+        assertSame(translated, PacketUtils.translatedPacket(packet, player2), "Same locale should share the rendered packet");
+        assertNotSame(translated, PacketUtils.translatedPacket(packet, player3));
+        assertEquals(Component.text("This is a test message"), ((SystemChatPacket) translated.packet()).message());
+    }
+
+    @Test
+    public void testViewableTranslation(final Env env) {
+        final var instance = env.createFlatInstance();
+        final var connection = env.createConnection();
+        final var player = connection.connect(instance, new Pos(0, 40, 0)).join();
+        final var collector = connection.trackIncoming(SystemChatPacket.class);
+
+        MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION = true;
+        final Viewable viewable = new Viewable() {
+            @Override
+            public boolean addViewer(@NotNull Player player) {
+                return false;
+            }
+
+            @Override
+            public boolean removeViewer(@NotNull Player player) {
+                return false;
+            }
+
+            @Override
+            public @NotNull Set<@NotNull Player> getViewers() {
+                return Set.of(player);
+            }
+        };
+        PacketUtils.prepareViewablePacket(viewable, new SystemChatPacket(Component.translatable("test.key"), false));
+        // Queued with the other viewable packets until the end of the tick
+        collector.assertEmpty();
+
+        final var flushed = connection.trackIncoming(SystemChatPacket.class);
+        PacketUtils.flush();
+        flushed.assertSingle(received -> assertEquals(Component.text("This is a test message"), received.message()));
+    }
+
     @Test
     public void testTranslationDisabled(final Env env) {
         final var instance = env.createFlatInstance();